@@ -13,6 +13,27 @@ public class Main {
             return;
         }
 
+        // --prune / --no-prune: paksa pruning relevansi nyala/mati (default nyala cuma di GBFS)
+        Boolean relevancePruning = null;
+        // --partial-expansion: A* cuma nyimpen successor yang f-nya sama kaya f node yang di-expand
+        boolean partialExpansion = false;
+        // --deferred / --preferred: GBFS pake deferred evaluation / preferred operators
+        boolean deferredEvaluation = false;
+        boolean preferredOperators = false;
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase("--prune")) {
+                relevancePruning = true;
+            } else if (arg.equalsIgnoreCase("--no-prune")) {
+                relevancePruning = false;
+            } else if (arg.equalsIgnoreCase("--partial-expansion")) {
+                partialExpansion = true;
+            } else if (arg.equalsIgnoreCase("--deferred")) {
+                deferredEvaluation = true;
+            } else if (arg.equalsIgnoreCase("--preferred")) {
+                preferredOperators = true;
+            }
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         System.out.println("Rush Hour Puzzle Solver");
@@ -33,6 +54,11 @@ public class Main {
             System.out.println("2. Greedy Best-First Search (GBFS)");
             System.out.println("3. A* Search");
             System.out.println("4. IDA* Search");
+            System.out.println("5. GBFS + Branch and Bound A* (optimal)");
+            System.out.println("6. GBFS + Branch and Bound IDA* (optimal)");
+            System.out.println("7. Anytime Repairing A* (ARA*) with a time budget");
+            System.out.println("8. Beam Search");
+            System.out.println("9. Enforced Hill-Climbing");
             System.out.print("Enter your choice: ");
             int choice = 1;
             String input = scanner.nextLine();
@@ -41,7 +67,7 @@ public class Main {
             }
 
             int heuristicChoice = 1; // default
-            if (choice == 2 || choice == 3 || choice == 4) {
+            if ((choice >= 2 && choice <= 6) || choice == 8 || choice == 9) {
                 System.out.println("\nChoose the heuristic:");
                 System.out.println("1. Blocking Pieces (count blocking vehicles)");
                 System.out.println("2. Manhattan Distance (distance to exit)");
@@ -53,6 +79,28 @@ public class Main {
                 }
             }
             
+            long timeBudget = 1000; // default, ms
+            if (choice == 7) {
+                System.out.print("\nEnter the time budget in milliseconds (1000): ");
+                input = scanner.nextLine();
+                if (!input.isEmpty()) {
+                    timeBudget = Long.parseLong(input);
+                }
+            }
+            
+            int beamWidth = Beam.DEFAULT_WIDTH;
+            boolean autoWiden = true;
+            if (choice == 8) {
+                System.out.print("\nEnter the beam width (" + Beam.DEFAULT_WIDTH + "): ");
+                input = scanner.nextLine();
+                if (!input.isEmpty()) {
+                    beamWidth = Integer.parseInt(input);
+                }
+                System.out.print("Widen the beam automatically if no solution is found? (Y/n): ");
+                input = scanner.nextLine();
+                autoWiden = !input.trim().equalsIgnoreCase("n");
+            }
+            
             switch (choice) {
                 case 1:
                     System.out.println("\nSolving with Uniform Cost Search (UCS)...");
@@ -62,18 +110,60 @@ public class Main {
                 case 2:
                     System.out.println("\nSolving with Greedy Best-First Search (GBFS)...");
                     GBFS gbfs = new GBFS(heuristicChoice,null);
+                    if (relevancePruning != null) {
+                        gbfs.setRelevancePruning(relevancePruning);
+                    }
+                    gbfs.setDeferredEvaluation(deferredEvaluation);
+                    gbfs.setPreferredOperators(preferredOperators);
                     gbfs.solve(initialBoard);
                     break;
                 case 3:
                     System.out.println("\nSolving with A* Search...");
                     AStar aStar = new AStar(heuristicChoice, null);
+                    if (relevancePruning != null) {
+                        aStar.setRelevancePruning(relevancePruning);
+                    }
+                    aStar.setPartialExpansion(partialExpansion);
                     aStar.solve(initialBoard);
                     break;
                 case 4:
                     System.out.println("Solving with Iterative Deepening A* (IDA*) Search...");
                     IDAStar idaStar = new IDAStar(heuristicChoice, null);
+                    if (relevancePruning != null) {
+                        idaStar.setRelevancePruning(relevancePruning);
+                    }
                     idaStar.solve(initialBoard);
                     break;
+                case 5:
+                case 6:
+                    System.out.println("\nSolving with GBFS + Branch and Bound " + (choice == 5 ? "A*" : "IDA*") + "...");
+                    TwoPhase twoPhase = new TwoPhase(heuristicChoice, choice == 6, null);
+                    if (relevancePruning != null) {
+                        twoPhase.setRelevancePruning(relevancePruning);
+                    }
+                    twoPhase.solve(initialBoard);
+                    break;
+                case 7:
+                    System.out.println("\nSolving with Anytime Repairing A* (ARA*)...");
+                    ARAStar araStar = new ARAStar(timeBudget, null);
+                    araStar.solve(initialBoard);
+                    break;
+                case 8:
+                    System.out.println("\nSolving with Beam Search...");
+                    Beam beam = new Beam(heuristicChoice, beamWidth, autoWiden, null);
+                    if (relevancePruning != null) {
+                        beam.setRelevancePruning(relevancePruning);
+                    }
+                    beam.solve(initialBoard);
+                    break;
+                case 9:
+                    System.out.println("\nSolving with Enforced Hill-Climbing...");
+                    HillClimbing hillClimbing = new HillClimbing(heuristicChoice, null);
+                    if (relevancePruning != null) {
+                        hillClimbing.setRelevancePruning(relevancePruning);
+                    }
+                    hillClimbing.solve(initialBoard);
+                    break;
                 default:
                     System.out.println("Invalid choice. Using UCS by default.");
                     UCS defaultUcs = new UCS(null);
@@ -0,0 +1,64 @@
+package algorithm;
+
+import model.Board;
+import util.BoardPrinter;
+
+public class ARAStar implements Solver {
+    private int nodesVisited = 0;
+    private long timeBudgetMillis;
+    private gui.Gui.SolutionCollector collector;
+    private AnytimeRepairingSearch.ImprovementListener listener;
+    private boolean provenOptimal;
+    
+    public ARAStar(long timeBudgetMillis, gui.Gui.SolutionCollector collector) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.collector = collector;
+    }
+    
+    public ARAStar() {
+        this(1000, null);
+    }
+    
+    /* Fungsi solver ARA*: weighted A* yang bobotnya turun dari 3.0 ke 1.0 selama waktunya masih ada,
+       hasilnya solusi terbaik yang ketemu sampai batas waktu. Pake lower bound admissible biar
+       iterasi terakhirnya beneran ngebuktiin optimal */
+    @Override
+    public SearchResult solve(Board initialBoard) {
+        System.out.println("Using heuristic: " + Heuristics.getName(Heuristics.BLOCKING_PIECES) + " (admissible)");
+        System.out.println("Time budget: " + timeBudgetMillis + " ms");
+        
+        BoardPrinter.printInitialBoard(initialBoard);
+        
+        SearchEngine.Problem problem = SearchEngine.prepare(initialBoard);
+        AnytimeRepairingSearch strategy = new AnytimeRepairingSearch(Heuristics::admissibleLowerBound, timeBudgetMillis);
+        if (listener != null) {
+            strategy.setImprovementListener((path, weight) -> listener.improved(problem.toOriginal(path), weight));
+        }
+        SearchResult result = SearchEngine.run(problem, strategy, false);
+        nodesVisited = result.getNodesExpanded();
+        provenOptimal = strategy.isProvenOptimal();
+        
+        if (strategy.isTimedOut()) {
+            System.out.println("Time budget exhausted, returning the best solution found so far.");
+        } else if (result.isSolved()) {
+            System.out.println("Solution proven optimal.");
+        }
+        
+        SearchEngine.report(initialBoard, result, collector);
+        return result;
+    }
+    
+    /* Listener yang dipanggil tiap solusi terbaik membaik, path-nya udah dipetain ke board asli */
+    public void setImprovementListener(AnytimeRepairingSearch.ImprovementListener listener) {
+        this.listener = listener;
+    }
+    
+    public boolean isProvenOptimal() {
+        return provenOptimal;
+    }
+    
+    @Override
+    public int getNodesVisited(){
+        return this.nodesVisited;
+    }
+}
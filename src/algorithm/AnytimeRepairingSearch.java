@@ -0,0 +1,210 @@
+package algorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Anytime Repairing A* (ARA*): weighted A* dengan bobot w yang diturunin bertahap sampai 1.
+   Tiap iterasi nerusin open list iterasi sebelumnya (state yang g-nya membaik setelah di-expand
+   disimpan di INCONS, terus dibalikin ke open list pas bobotnya turun), jadi usaha search-nya ga diulang.
+   Solusi terbaik dipublish tiap kali membaik, dan search berhenti kalau waktunya habis atau
+   solusinya terbukti optimal. Heuristiknya harus admissible biar bukti optimalnya valid. */
+public final class AnytimeRepairingSearch implements SearchStrategy {
+    /* Bobot disimpan dalam persepuluhan biar prioritasnya tetap int: prioritas = 10 * g + w * h */
+    private static final int WEIGHT_SCALE = 10;
+    
+    /* Dipanggil tiap kali solusi terbaik membaik, dengan path-nya (di koordinat search board) */
+    public interface ImprovementListener {
+        void improved(List<Move> path, double weight);
+    }
+    
+    private final Heuristic heuristic;
+    private final long timeBudgetNanos;     // dihitung dari awal search(), bukan dari konstruktor
+    private int initialWeight = 30;         // 3.0
+    private int weightStep = 5;             // 0.5
+    private ImprovementListener listener;
+    private boolean timedOut;
+    private boolean provenOptimal;
+    
+    public AnytimeRepairingSearch(Heuristic heuristic, long timeBudgetMillis) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive.");
+        }
+        this.heuristic = heuristic;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    }
+    
+    /* Bobot awal dan pengurangannya tiap iterasi, dalam persepuluhan (30 = 3.0) */
+    public AnytimeRepairingSearch setWeights(int initialWeight, int weightStep) {
+        if (initialWeight < WEIGHT_SCALE || weightStep <= 0) {
+            throw new IllegalArgumentException("Initial weight must be at least 1.0 and the step must be positive.");
+        }
+        this.initialWeight = initialWeight;
+        this.weightStep = weightStep;
+        return this;
+    }
+    
+    public AnytimeRepairingSearch setImprovementListener(ImprovementListener listener) {
+        this.listener = listener;
+        return this;
+    }
+    
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+    
+    public boolean isProvenOptimal() {
+        return provenOptimal;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        Puzzle puzzle = searchBoard.getPuzzle();
+        NodeArena arena = new NodeArena();
+        IndexedNodeHeap open = new IndexedNodeHeap();
+        StateMap nodes = new StateMap(puzzle.getStateWords());
+        long[] stateWords = new long[puzzle.getStateWords()];
+        
+        int[] closedIn = new int[1 << 12];      // iterasi terakhir node di-expand (0 = belum pernah)
+        int[] incons = new int[64];             // node closed yang g-nya membaik di iterasi ini
+        int inconsSize = 0;
+        timedOut = false;
+        provenOptimal = false;
+        
+        Board board = new Board(searchBoard);
+        int weight = initialWeight;
+        int iteration = 1;
+        
+        int boardNode = arena.add(NodeArena.NO_PARENT, 0, 0, heuristic.estimate(board));
+        board.encodeState(stateWords);
+        nodes.put(stateWords, board.getZobristHash(), boardNode);
+        if (board.isSolvedAtRightExit()) {
+            provenOptimal = true;
+            return arena.getPathMoves(boardNode, puzzle);
+        }
+        open.add(boardNode, priority(0, arena.getHeuristic(boardNode), weight));
+        
+        List<Move> best = null;
+        int bestCost = Integer.MAX_VALUE;
+        
+        while (true) {
+            // ImprovePath: expand selama masih ada node yang prioritasnya di bawah solusi terbaik
+            while (!open.isEmpty() && open.peekPriority() < (long) bestCost * WEIGHT_SCALE) {
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                    return best;
+                }
+                
+                int current = open.poll();
+                stats.nodeExpanded();
+                if (current >= closedIn.length) {
+                    closedIn = Arrays.copyOf(closedIn, Math.max(current + 1, closedIn.length * 2));
+                }
+                closedIn[current] = iteration;
+                
+                arena.moveBoard(board, boardNode, current);
+                boardNode = current;
+                
+                int cost = arena.getCost(current);
+                for (Move move : board.getNextMoves()) {
+                    board.encodeStateAfter(move, stateWords);
+                    long hash = board.getZobristHashAfter(move);
+                    int existing = nodes.get(stateWords, hash);
+                    if (existing != StateMap.NOT_FOUND && cost + 1 >= arena.getCost(existing)) {
+                        continue;
+                    }
+                    
+                    board.doMove(move);
+                    boolean solved = board.isSolvedAtRightExit();
+                    int h = existing == StateMap.NOT_FOUND ? heuristic.estimate(board) : arena.getHeuristic(existing);
+                    board.undoMove(move);
+                    
+                    int child;
+                    if (existing == StateMap.NOT_FOUND) {
+                        child = arena.add(current, NodeArena.packMove(puzzle, move), cost + 1, h);
+                        nodes.put(stateWords, hash, child);
+                    } else {
+                        child = existing;
+                        arena.update(child, current, NodeArena.packMove(puzzle, move), cost + 1);
+                    }
+                    stats.nodeGenerated();
+                    
+                    if (solved) {
+                        // Goal ga perlu di-expand: cukup catat kalau lebih murah dari solusi terbaik
+                        List<Move> path = arena.getPathMoves(child, puzzle);
+                        if (path.size() < bestCost) {
+                            best = path;
+                            bestCost = path.size();
+                            publish(best, weight);
+                        }
+                        continue;
+                    }
+                    
+                    if (child < closedIn.length && closedIn[child] == iteration) {
+                        // Udah di-expand di iterasi ini: tunda ke iterasi berikutnya (INCONS)
+                        if (inconsSize == incons.length) {
+                            incons = Arrays.copyOf(incons, inconsSize * 2);
+                        }
+                        incons[inconsSize++] = child;
+                        closedIn[child] = -iteration;
+                    } else if (child < closedIn.length && closedIn[child] == -iteration) {
+                        continue;
+                    } else if (open.contains(child)) {
+                        open.decreaseKey(child, priority(cost + 1, h, weight));
+                    } else {
+                        open.add(child, priority(cost + 1, h, weight));
+                    }
+                }
+            }
+            
+            if (weight == WEIGHT_SCALE && inconsSize == 0) {
+                // Iterasi dengan bobot 1 selesai: ga ada node yang bisa ngasih solusi lebih murah
+                provenOptimal = true;
+                return best;
+            }
+            
+            // Turunin bobot, gabungin INCONS ke open list, terus hitung ulang semua prioritasnya
+            weight = Math.max(weight - weightStep, WEIGHT_SCALE);
+            iteration++;
+            
+            int[] pending = new int[open.size() + inconsSize];
+            int pendingSize = 0;
+            while (!open.isEmpty()) {
+                pending[pendingSize++] = open.poll();
+            }
+            for (int i = 0; i < inconsSize; i++) {
+                pending[pendingSize++] = incons[i];
+            }
+            inconsSize = 0;
+            
+            int lowerBound = Integer.MAX_VALUE;
+            for (int i = 0; i < pendingSize; i++) {
+                int node = pending[i];
+                int g = arena.getCost(node);
+                int h = arena.getHeuristic(node);
+                open.add(node, priority(g, h, weight));
+                lowerBound = Math.min(lowerBound, g + h);
+            }
+            
+            if (lowerBound >= bestCost) {
+                // Semua node sisa punya g + h >= solusi terbaik, jadi solusinya udah optimal
+                provenOptimal = true;
+                return best;
+            }
+        }
+    }
+    
+    private static int priority(int cost, int heuristic, int weight) {
+        return cost * WEIGHT_SCALE + weight * heuristic;
+    }
+    
+    private void publish(List<Move> path, int weight) {
+        System.out.println("Found solution with weight " + (weight / (double) WEIGHT_SCALE) + ": " + path.size() + " moves");
+        if (listener != null) {
+            listener.improved(path, weight / (double) WEIGHT_SCALE);
+        }
+    }
+}
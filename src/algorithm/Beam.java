@@ -0,0 +1,57 @@
+package algorithm;
+
+import model.Board;
+import util.BoardPrinter;
+
+public class Beam implements Solver {
+    private int nodesVisited = 0;
+    private int heuristicType;
+    private int width;
+    private boolean autoWiden;
+    private gui.Gui.SolutionCollector collector;
+    private boolean relevancePruning = true;
+    
+    public static final int DEFAULT_WIDTH = 100;
+    
+    public Beam(int heuristicType, int width, boolean autoWiden, gui.Gui.SolutionCollector collector) {
+        this.heuristicType = heuristicType;
+        this.width = width;
+        this.autoWiden = autoWiden;
+        this.collector = collector;
+    }
+    
+    public Beam() {
+        this(Heuristics.BLOCKING_PIECES, DEFAULT_WIDTH, true, null);
+    }
+    
+    /* Fungsi solver beam search: tiap layer kedalaman cuma `width` state dengan h terkecil yang dilanjutin */
+    @Override
+    public SearchResult solve(Board initialBoard) {
+        System.out.println("Using heuristic: " + Heuristics.getName(heuristicType));
+        System.out.println("Beam width: " + width + (autoWiden ? " (auto-widen)" : ""));
+        
+        BoardPrinter.printInitialBoard(initialBoard);
+        
+        BeamSearch strategy = new BeamSearch(Heuristics.greedyForType(heuristicType), width, autoWiden);
+        SearchResult result = SearchEngine.run(initialBoard, strategy, relevancePruning);
+        nodesVisited = result.getNodesExpanded();
+        
+        if (strategy.isLimitReached()) {
+            SearchEngine.report(initialBoard, result, collector, "Tidak ada solusi dalam batas beam search (width, kedalaman, atau jumlah node)!");
+        } else {
+            SearchEngine.report(initialBoard, result, collector);
+        }
+        return result;
+    }
+    
+    /* Pruning relevansi dinamis tiap expand (lihat RelevanceFilter).
+       Default nyala: beam search memang ga optimal, pruning bikin beam-nya fokus ke piece yang relevan */
+    public void setRelevancePruning(boolean enabled) {
+        this.relevancePruning = enabled;
+    }
+    
+    @Override
+    public int getNodesVisited(){
+        return this.nodesVisited;
+    }
+}
@@ -0,0 +1,203 @@
+package algorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Beam search per layer kedalaman: dari tiap layer cuma `width` successor dengan h terkecil yang
+   dilanjutin. Duplikat dicek ke layer yang lagi dibikin dan ke beberapa layer terakhir (depth window),
+   jadi memorinya kira-kira width * kedalaman (node di arena) + width * branching * window (state set).
+   Ga complete dan ga optimal. Mode auto-widen ngulang search dengan width dua kali lipat kalau gagal.
+   Total node yang di-expand di semua ronde (dihitung dari SearchStats) dibatasi maxExpansions, dan arena
+   serta layer-nya dipake ulang antar ronde, jadi input yang ga ada solusinya tetap berhenti dengan memori yang kebatas. */
+public final class BeamSearch implements SearchStrategy {
+    private final Heuristic heuristic;
+    private final int initialWidth;
+    private final boolean autoWiden;
+    private int maxWidth = 1 << 14;
+    private int depthWindow = 8;
+    private int maxDepth = 1000;
+    private int maxExpansions = 1 << 20;
+    
+    private boolean exhausted;      // run terakhir ga pernah motong kandidat dan beam-nya habis sendiri
+    private boolean limitReached;   // gagal gara-gara batas (width, kedalaman, atau jumlah expand), bukan karena ga ada solusi
+    
+    public BeamSearch(Heuristic heuristic, int width, boolean autoWiden) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Beam width must be positive.");
+        }
+        this.heuristic = heuristic;
+        this.initialWidth = width;
+        this.autoWiden = autoWiden;
+    }
+    
+    /* Batas width buat auto-widen, jumlah layer terakhir yang dipake buat cek duplikat, dan kedalaman maksimum */
+    public BeamSearch setLimits(int maxWidth, int depthWindow, int maxDepth) {
+        if (maxWidth <= 0 || depthWindow <= 0 || maxDepth <= 0) {
+            throw new IllegalArgumentException("Beam limits must be positive.");
+        }
+        this.maxWidth = maxWidth;
+        this.depthWindow = depthWindow;
+        this.maxDepth = maxDepth;
+        return this;
+    }
+    
+    /* Batas total node yang di-expand, dijumlah dari semua ronde auto-widen (lihat SearchStats) */
+    public BeamSearch setMaxExpansions(int maxExpansions) {
+        if (maxExpansions <= 0) {
+            throw new IllegalArgumentException("Beam expansion limit must be positive.");
+        }
+        this.maxExpansions = maxExpansions;
+        return this;
+    }
+    
+    /* True kalau search terakhir gagal karena kena batas, jadi bisa aja sebenernya ada solusi */
+    public boolean isLimitReached() {
+        return limitReached;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        int stateWords = searchBoard.getPuzzle().getStateWords();
+        NodeArena arena = new NodeArena();
+        StateSet[] window = new StateSet[depthWindow + 1];    // ring buffer, layer d ada di window[d % (depthWindow + 1)]
+        for (int i = 0; i < window.length; i++) {
+            window[i] = new StateSet(stateWords);
+        }
+        
+        int width = initialWidth;
+        while (true) {
+            arena.clear();
+            for (StateSet layer : window) {
+                layer.clear();
+            }
+            
+            List<Move> path = searchWithWidth(searchBoard, filter, stats, width, arena, window);
+            limitReached = path == null && !exhausted;
+            // Kalau beam-nya ga pernah kepotong, semua state yang bisa dicapai udah dicoba: widen percuma
+            if (path != null || exhausted || !autoWiden || width >= maxWidth || stats.getNodesExpanded() >= maxExpansions) {
+                return path;
+            }
+            
+            width = (int) Math.min((long) width * 2, maxWidth);
+            System.out.println("Widening beam to: " + width);
+        }
+    }
+    
+    private List<Move> searchWithWidth(Board searchBoard, RelevanceFilter filter, SearchStats stats, int width,
+                                       NodeArena arena, StateSet[] window) {
+        Puzzle puzzle = searchBoard.getPuzzle();
+        long[] state = new long[puzzle.getStateWords()];
+        
+        // Satu board mutable yang digeser (undo/redo) ke node beam yang lagi di-expand
+        exhausted = false;
+        Board board = new Board(searchBoard);
+        int boardNode = arena.add(NodeArena.NO_PARENT, 0, 0, heuristic.estimate(board));
+        if (board.isSolvedAtRightExit()) {
+            return arena.getPathMoves(boardNode, puzzle);
+        }
+        
+        board.encodeState(state);
+        window[0].add(state, board.getZobristHash());
+        
+        int[] beam = { boardNode };
+        int beamSize = 1;
+        boolean truncated = false;
+        int[] candidateParents = new int[64];
+        int[] candidateMoves = new int[64];
+        int[] candidateHeuristics = new int[64];
+        
+        for (int depth = 1; depth <= maxDepth && beamSize > 0; depth++) {
+            StateSet layer = window[depth % window.length];
+            layer.clear();
+            int candidateCount = 0;
+            
+            for (int i = 0; i < beamSize; i++) {
+                if (stats.getNodesExpanded() >= maxExpansions) {
+                    return null;
+                }
+                
+                int node = beam[i];
+                arena.moveBoard(board, boardNode, node);
+                boardNode = node;
+                stats.nodeExpanded();
+                
+                List<Move> moves = board.getNextMoves();
+                if (filter != null) {
+                    moves = filter.filter(board, moves);
+                }
+                
+                for (Move move : moves) {
+                    board.encodeStateAfter(move, state);
+                    long hash = board.getZobristHashAfter(move);
+                    if (isRecent(window, state, hash) || !layer.add(state, hash)) {
+                        continue;
+                    }
+                    
+                    board.doMove(move);
+                    boolean solved = board.isSolvedAtRightExit();
+                    int h = solved ? 0 : heuristic.estimate(board);
+                    board.undoMove(move);
+                    stats.nodeGenerated();
+                    
+                    int packedMove = NodeArena.packMove(puzzle, move);
+                    if (solved) {
+                        return arena.getPathMoves(arena.add(node, packedMove, depth, 0), puzzle);
+                    }
+                    
+                    if (candidateCount == candidateParents.length) {
+                        candidateParents = Arrays.copyOf(candidateParents, candidateCount * 2);
+                        candidateMoves = Arrays.copyOf(candidateMoves, candidateCount * 2);
+                        candidateHeuristics = Arrays.copyOf(candidateHeuristics, candidateCount * 2);
+                    }
+                    candidateParents[candidateCount] = node;
+                    candidateMoves[candidateCount] = packedMove;
+                    candidateHeuristics[candidateCount] = h;
+                    candidateCount++;
+                }
+            }
+            
+            // Pilih `width` kandidat dengan h terkecil (seri: urutan generate), cuma yang kepilih masuk arena
+            int[] selected = selectBest(candidateHeuristics, candidateCount, width);
+            truncated |= selected.length < candidateCount;
+            beamSize = selected.length;
+            if (beam.length < beamSize) {
+                beam = new int[beamSize];
+            }
+            for (int i = 0; i < beamSize; i++) {
+                int c = selected[i];
+                beam[i] = arena.add(candidateParents[c], candidateMoves[c], depth, candidateHeuristics[c]);
+            }
+        }
+        
+        exhausted = beamSize == 0 && !truncated;
+        return null;
+    }
+    
+    private static boolean isRecent(StateSet[] window, long[] state, long hash) {
+        for (StateSet layer : window) {
+            if (layer != null && layer.contains(state, hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /* Index kandidat yang kepilih, diurutin naik biar sibling tetap sebelahan (moveBoard-nya pendek) */
+    private static int[] selectBest(int[] heuristics, int count, int width) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) heuristics[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        
+        int[] selected = new int[Math.min(count, width)];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = (int) keys[i];
+        }
+        Arrays.sort(selected);
+        return selected;
+    }
+}
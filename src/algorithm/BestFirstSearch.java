@@ -0,0 +1,167 @@
+package algorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Best-first search generik di atas NodeArena + OpenList. UCS, GBFS, dan A* cuma beda
+   urutan open list (NodeOrdering), struktur open list-nya, heuristik, dan cara nanganin duplikat (DuplicatePolicy). */
+public final class BestFirstSearch implements SearchStrategy {
+    private final NodeOrdering ordering;
+    private final Heuristic heuristic;      // null kalau ga pake heuristik (UCS)
+    private final IntFunction<DuplicatePolicy> duplicates;
+    private final Supplier<OpenList> openList;
+    private boolean goalTestOnGenerate = false;
+    private boolean deferredEvaluation = false;
+    private boolean preferredOperators = false;
+    
+    public BestFirstSearch(NodeOrdering ordering, Heuristic heuristic, IntFunction<DuplicatePolicy> duplicates,
+            Supplier<OpenList> openList) {
+        this.ordering = ordering;
+        this.heuristic = heuristic;
+        this.duplicates = duplicates;
+        this.openList = openList;
+    }
+    
+    /* Cek goal pas node dibuat, bukan pas di-expand. Cuma aman (tetap optimal) kalau cost tiap
+       move sama dan open list-nya FIFO per cost, kaya UCS di sini */
+    public BestFirstSearch setGoalTestOnGenerate(boolean enabled) {
+        this.goalTestOnGenerate = enabled;
+        return this;
+    }
+    
+    /* Deferred evaluation: successor masuk open list pake h parent-nya, h-nya sendiri baru dihitung
+       pas dia di-expand. Heuristiknya cuma dihitung sekali per node yang di-expand, bukan per successor */
+    public BestFirstSearch setDeferredEvaluation(boolean enabled) {
+        this.deferredEvaluation = enabled;
+        return this;
+    }
+    
+    /* Preferred operators: successor hasil geser piece yang nutup jalur primary (atau majuin primary)
+       juga dimasukin ke open list kedua, dan dua open list itu diambil gantian */
+    public BestFirstSearch setPreferredOperators(boolean enabled) {
+        this.preferredOperators = enabled;
+        return this;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        Puzzle puzzle = searchBoard.getPuzzle();
+        NodeArena arena = new NodeArena();
+        OpenList queue = openList.get();
+        OpenList preferredQueue = preferredOperators ? openList.get() : null;
+        boolean takePreferred = true;
+        boolean[] blocking = new boolean[puzzle.getPieceCount()];
+        
+        DuplicatePolicy policy = duplicates.apply(puzzle.getStateWords());
+        long[] stateWords = new long[puzzle.getStateWords()];
+        
+        int initialHeuristic = heuristic == null ? 0 : heuristic.estimate(searchBoard);
+        // Satu board mutable yang digeser (undo/redo) ke node yang lagi di-expand
+        Board board = new Board(searchBoard);
+        int boardNode = arena.add(NodeArena.NO_PARENT, 0, 0, initialHeuristic);
+        if (goalTestOnGenerate && board.isSolvedAtRightExit()) {
+            return arena.getPathMoves(boardNode, puzzle);
+        }
+        queue.add(boardNode, ordering.priority(0, initialHeuristic));
+        
+        while (!queue.isEmpty() || (preferredQueue != null && !preferredQueue.isEmpty())) {
+            OpenList source = queue;
+            if (preferredQueue != null && !preferredQueue.isEmpty() && (takePreferred || queue.isEmpty())) {
+                source = preferredQueue;
+            }
+            takePreferred = !takePreferred;
+            int current = source.poll();
+            stats.nodeExpanded();
+            
+            arena.moveBoard(board, boardNode, current);
+            boardNode = current;
+            
+            int cost = arena.getCost(current);
+            board.encodeState(stateWords);
+            if (!policy.shouldExpand(stateWords, board.getZobristHash(), cost)) {
+                continue;
+            }
+            
+            if (board.isSolvedAtRightExit()) {
+                return arena.getPathMoves(current, puzzle);
+            }
+            
+            List<Move> moves = board.getNextMoves();
+            if (filter != null) {
+                moves = filter.filter(board, moves);
+            }
+            
+            int currentHeuristic = deferredEvaluation ? heuristic.estimate(board) : 0;
+            if (preferredOperators) {
+                markBlockingPieces(board, blocking);
+            }
+            
+            for (Move move : moves) {
+                board.encodeStateAfter(move, stateWords);
+                
+                if (!policy.shouldGenerate(stateWords, board.getZobristHashAfter(move), cost + 1)) {
+                    continue;
+                }
+                
+                int h = 0;
+                boolean solved = false;
+                boolean evaluate = heuristic != null && !deferredEvaluation;
+                if (evaluate || goalTestOnGenerate) {
+                    board.doMove(move);
+                    h = evaluate ? heuristic.estimate(board) : 0;
+                    solved = goalTestOnGenerate && board.isSolvedAtRightExit();
+                    board.undoMove(move);
+                }
+                if (deferredEvaluation) {
+                    h = currentHeuristic;
+                }
+                
+                int next = arena.add(current, NodeArena.packMove(puzzle, move), cost + 1, h);
+                stats.nodeGenerated();
+                if (solved) {
+                    return arena.getPathMoves(next, puzzle);
+                }
+                
+                int priority = ordering.priority(cost + 1, h);
+                queue.add(next, priority);
+                if (preferredQueue != null && isPreferred(puzzle, move, blocking)) {
+                    preferredQueue.add(next, priority);
+                }
+            }
+        }
+        
+        return null;
+    }
+    
+    /* Tandain piece yang nempatin jalur primary ke exit (cell di kanan primary sampai tepi board) */
+    private static void markBlockingPieces(Board board, boolean[] blocking) {
+        Arrays.fill(blocking, false);
+        Puzzle puzzle = board.getPuzzle();
+        int primary = puzzle.getPrimaryIndex();
+        if (primary == -1) {
+            return;
+        }
+        
+        int row = board.getPieceRow(primary);
+        for (int col = board.getPieceCol(primary) + puzzle.getLength(primary); col < board.getCols(); col++) {
+            int occupant = board.getPieceAt(row, col);
+            if (occupant != -1) {
+                blocking[occupant] = true;
+            }
+        }
+    }
+    
+    /* Move yang geser piece penghalang, atau majuin primary ke arah exit */
+    private static boolean isPreferred(Puzzle puzzle, Move move, boolean[] blocking) {
+        int i = move.getPieceIndex();
+        if (i == puzzle.getPrimaryIndex()) {
+            return move.getTargetCol() > move.getFromCol();
+        }
+        return blocking[i];
+    }
+}
@@ -0,0 +1,20 @@
+package algorithm;
+
+/* Duplicate handling standar: state masuk closed set pas pertama kali di-expand dan ga pernah dibuka lagi */
+public final class ClosedSet implements DuplicatePolicy {
+    private final StateSet closed;
+    
+    public ClosedSet(int stateWords) {
+        this.closed = new StateSet(stateWords);
+    }
+    
+    @Override
+    public boolean shouldExpand(long[] state, long hash, int cost) {
+        return closed.add(state, hash);
+    }
+    
+    @Override
+    public boolean shouldGenerate(long[] state, long hash, int cost) {
+        return !closed.contains(state, hash);
+    }
+}
@@ -0,0 +1,10 @@
+package algorithm;
+
+/* Cara search nanganin state yang udah pernah ketemu. State dikasih sebagai hasil encodeState + hash Zobrist-nya */
+public interface DuplicatePolicy {
+    /* Dipanggil pas node diambil dari open list, false berarti node-nya di-skip */
+    boolean shouldExpand(long[] state, long hash, int cost);
+    
+    /* Dipanggil sebelum successor dimasukin ke open list, false berarti successor-nya dibuang */
+    boolean shouldGenerate(long[] state, long hash, int cost);
+}
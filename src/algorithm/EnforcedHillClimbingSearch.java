@@ -0,0 +1,102 @@
+package algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Enforced hill-climbing: dari state sekarang jalanin BFS kecil sampai ketemu state dengan h yang
+   lebih kecil, langsung commit ke state itu, terus ulang dari situ. BFS-nya cuma buat lolos dari plateau,
+   jadi closed set-nya dibuang tiap kali commit. Kalau BFS-nya mentok (dead end atau kebanyakan node),
+   search diulang dari awal pake strategy cadangan (GBFS). */
+public final class EnforcedHillClimbingSearch implements SearchStrategy {
+    private final Heuristic heuristic;
+    private final SearchStrategy fallback;
+    private int maxPlateauNodes = 1 << 16;
+    
+    public EnforcedHillClimbingSearch(Heuristic heuristic, SearchStrategy fallback) {
+        this.heuristic = heuristic;
+        this.fallback = fallback;
+    }
+    
+    /* Batas node satu BFS plateau, lewat dari ini dianggap mentok dan pindah ke fallback */
+    public EnforcedHillClimbingSearch setMaxPlateauNodes(int maxPlateauNodes) {
+        if (maxPlateauNodes <= 0) {
+            throw new IllegalArgumentException("Plateau node limit must be positive.");
+        }
+        this.maxPlateauNodes = maxPlateauNodes;
+        return this;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        Board board = new Board(searchBoard);
+        List<Move> plan = new ArrayList<>();
+        int h = heuristic.estimate(board);
+        
+        while (!board.isSolvedAtRightExit()) {
+            int better = escapePlateau(board, h, filter, stats, plan);
+            if (better == Integer.MAX_VALUE) {
+                System.out.println("Hill climbing got stuck, falling back to GBFS");
+                return fallback.search(searchBoard, filter, stats);
+            }
+            h = better;
+        }
+        
+        return plan;
+    }
+    
+    /* BFS dari board sampai ketemu state yang lebih baik (h < currentHeuristic) atau goal.
+       Board digeser ke state itu, move-nya ditambahin ke plan, return h-nya (MAX_VALUE kalau gagal) */
+    private int escapePlateau(Board board, int currentHeuristic, RelevanceFilter filter, SearchStats stats, List<Move> plan) {
+        Puzzle puzzle = board.getPuzzle();
+        NodeArena arena = new NodeArena(256);
+        StateSet closed = new StateSet(puzzle.getStateWords(), 256, StateSet.DEFAULT_LOAD_FACTOR);
+        long[] state = new long[puzzle.getStateWords()];
+        
+        int boardNode = arena.add(NodeArena.NO_PARENT, 0, 0, currentHeuristic);
+        board.encodeState(state);
+        closed.add(state, board.getZobristHash());
+        
+        // Node di arena ditambahin urut BFS, jadi arena-nya sekalian jadi antrian FIFO
+        for (int current = 0; current < arena.size(); current++) {
+            arena.moveBoard(board, boardNode, current);
+            boardNode = current;
+            stats.nodeExpanded();
+            
+            List<Move> moves = board.getNextMoves();
+            if (filter != null) {
+                moves = filter.filter(board, moves);
+            }
+            
+            for (Move move : moves) {
+                board.encodeStateAfter(move, state);
+                if (!closed.add(state, board.getZobristHashAfter(move))) {
+                    continue;
+                }
+                
+                board.doMove(move);
+                boolean solved = board.isSolvedAtRightExit();
+                int h = solved ? 0 : heuristic.estimate(board);
+                board.undoMove(move);
+                stats.nodeGenerated();
+                
+                int next = arena.add(current, NodeArena.packMove(puzzle, move), arena.getCost(current) + 1, h);
+                if (solved || h < currentHeuristic) {
+                    arena.moveBoard(board, boardNode, next);
+                    plan.addAll(arena.getPathMoves(next, puzzle));
+                    return h;
+                }
+            }
+            
+            if (arena.size() > maxPlateauNodes) {
+                break;
+            }
+        }
+        
+        // Balikin board ke root, biar pemanggil tetap di state terakhir yang di-commit
+        arena.moveBoard(board, boardNode, 0);
+        return Integer.MAX_VALUE;
+    }
+}
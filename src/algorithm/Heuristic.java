@@ -0,0 +1,8 @@
+package algorithm;
+
+import model.Board;
+
+/* Estimasi sisa langkah dari sebuah state. Board-nya selalu board normal (exit di kanan, lihat ExitTransform) */
+public interface Heuristic {
+    int estimate(Board board);
+}
@@ -0,0 +1,117 @@
+package algorithm;
+
+import model.Board;
+
+/* Kumpulan heuristik yang dipake solver. Semua fungsi di sini nganggep exit ada di kanan,
+   karena search selalu jalan di board yang udah dinormalisasi. */
+public final class Heuristics {
+    public static final int BLOCKING_PIECES = 1;
+    public static final int MANHATTAN_DISTANCE = 2;
+    public static final int COMBINED = 3;
+    
+    private Heuristics() {
+    }
+    
+    public static String getName(int heuristicType) {
+        switch (heuristicType) {
+            case BLOCKING_PIECES:
+                return "Blocking Pieces";
+            case MANHATTAN_DISTANCE:
+                return "Manhattan Distance";
+            case COMBINED:
+                return "Combined (Blocking + Manhattan)";
+            default:
+                return "Unknown";
+        }
+    }
+    
+    /* Heuristik buat A* dan IDA*: combined = blocking * blockingWeight + manhattan */
+    public static Heuristic forType(int heuristicType, int blockingWeight) {
+        switch (heuristicType) {
+            case MANHATTAN_DISTANCE:
+                return Heuristics::manhattanDistance;
+            case COMBINED:
+                return board -> {
+                    int blockingPieces = blockingPieces(board);
+                    int manhattanDistance = manhattanDistance(board);
+                    if (blockingPieces == Integer.MAX_VALUE) {
+                        return Integer.MAX_VALUE;
+                    }
+                    return blockingPieces * blockingWeight + manhattanDistance;
+                };
+            case BLOCKING_PIECES:
+            default:
+                return Heuristics::blockingPieces;
+        }
+    }
+    
+    /* Varian greedy buat GBFS: ga perlu admissible, jadi state yang masih ada penghalang dibikin jauh lebih mahal */
+    public static Heuristic greedyForType(int heuristicType) {
+        switch (heuristicType) {
+            case MANHATTAN_DISTANCE:
+                return Heuristics::greedyManhattanDistance;
+            case COMBINED:
+                return board -> {
+                    int blockingPieces = greedyBlockingPieces(board);
+                    int manhattanDistance = greedyManhattanDistance(board);
+                    if (blockingPieces == 0 || blockingPieces == Integer.MAX_VALUE) {
+                        return manhattanDistance;
+                    }
+                    return blockingPieces * 10 + manhattanDistance;
+                };
+            case BLOCKING_PIECES:
+            default:
+                return Heuristics::greedyBlockingPieces;
+        }
+    }
+    
+    /* Jumlah cell terisi di antara primary dan exit */
+    public static int blockingPieces(Board board) {
+        int primary = board.getPrimaryIndex();
+        if (primary == -1) {
+            return Integer.MAX_VALUE;
+        }
+        
+        int primaryEnd = board.getPieceCol(primary) + board.getPuzzle().getLength(primary);
+        return board.countOccupiedInRow(board.getPieceRow(primary), primaryEnd, board.getCols());
+    }
+    
+    /* Jarak ujung primary ke exit */
+    public static int manhattanDistance(Board board) {
+        int primary = board.getPrimaryIndex();
+        if (primary == -1) {
+            return Integer.MAX_VALUE;
+        }
+        
+        int primaryEnd = board.getPieceCol(primary) + board.getPuzzle().getLength(primary);
+        return board.getCols() - primaryEnd;
+    }
+    
+    /* Lower bound yang admissible: tiap cell penghalang pasti piece vertikal beda yang harus geser minimal sekali,
+       terus primary sendiri minimal sekali kalau belum nyampe exit. Dipake kalau hasilnya harus optimal */
+    public static int admissibleLowerBound(Board board) {
+        int blockingPieces = blockingPieces(board);
+        if (blockingPieces == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return blockingPieces + (manhattanDistance(board) > 0 ? 1 : 0);
+    }
+    
+    /* Blocking pieces, tapi jalur kosong yang belum nyampe exit tetap dihitung 1 */
+    private static int greedyBlockingPieces(Board board) {
+        int blockingPieces = blockingPieces(board);
+        if (blockingPieces == 0) {
+            return manhattanDistance(board) > 0 ? 1 : 0;
+        }
+        return blockingPieces;
+    }
+    
+    /* Manhattan + penalti 10 kalau jalurnya masih ketutup */
+    private static int greedyManhattanDistance(Board board) {
+        int manhattanDistance = manhattanDistance(board);
+        if (manhattanDistance == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return manhattanDistance + (blockingPieces(board) > 0 ? 10 : 0);
+    }
+}
@@ -0,0 +1,48 @@
+package algorithm;
+
+import model.Board;
+import util.BoardPrinter;
+
+public class HillClimbing implements Solver {
+    private int nodesVisited = 0;
+    private int heuristicType;
+    private gui.Gui.SolutionCollector collector;
+    private boolean relevancePruning = true;
+    
+    public HillClimbing(int heuristicType, gui.Gui.SolutionCollector collector) {
+        this.heuristicType = heuristicType;
+        this.collector = collector;
+    }
+    
+    public HillClimbing() {
+        this(Heuristics.BLOCKING_PIECES, null);
+    }
+    
+    /* Fungsi solver enforced hill-climbing: BFS kecil tiap plateau, fallback ke GBFS kalau mentok */
+    @Override
+    public SearchResult solve(Board initialBoard) {
+        System.out.println("Using heuristic: " + Heuristics.getName(heuristicType));
+        
+        BoardPrinter.printInitialBoard(initialBoard);
+        
+        Heuristic heuristic = Heuristics.greedyForType(heuristicType);
+        SearchStrategy fallback = new BestFirstSearch(NodeOrdering.GREEDY, heuristic, ClosedSet::new, NodeBuckets::fifo);
+        SearchStrategy strategy = new EnforcedHillClimbingSearch(heuristic, fallback);
+        SearchResult result = SearchEngine.run(initialBoard, strategy, relevancePruning);
+        nodesVisited = result.getNodesExpanded();
+        
+        SearchEngine.report(initialBoard, result, collector);
+        return result;
+    }
+    
+    /* Pruning relevansi dinamis tiap expand (lihat RelevanceFilter).
+       Default nyala kaya GBFS: hill climbing memang ga optimal */
+    public void setRelevancePruning(boolean enabled) {
+        this.relevancePruning = enabled;
+    }
+    
+    @Override
+    public int getNodesVisited(){
+        return this.nodesVisited;
+    }
+}
@@ -0,0 +1,133 @@
+package algorithm;
+
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Best-first search dengan deteksi duplikat pas generate: tiap state cuma punya satu node
+   (StateMap state -> node). Successor yang g-nya ga lebih baik langsung dibuang, yang lebih baik
+   ngupdate node lamanya di tempat (decrease-key kalau masih open, dibuka lagi kalau udah closed),
+   jadi open list ga pernah berisi entry basi. Reopening perlu buat heuristik yang ga konsisten.
+   Mode partial expansion (EPEA*): pas di-expand, cuma child dengan f <= nilai F node itu yang disimpan,
+   terus node-nya dimasukin lagi ke open list dengan F = f child terkecil yang belum disimpan. */
+public final class IndexedBestFirstSearch implements SearchStrategy {
+    private final NodeOrdering ordering;
+    private final Heuristic heuristic;
+    private boolean partialExpansion = false;
+    private int upperBound = Integer.MAX_VALUE;
+    
+    public IndexedBestFirstSearch(NodeOrdering ordering, Heuristic heuristic) {
+        this.ordering = ordering;
+        this.heuristic = heuristic;
+    }
+    
+    /* Hemat memori: child yang f-nya di atas F node ga dibikin dulu, dengan harga node yang sama
+       bisa di-expand berkali-kali (dan h child-nya dihitung ulang tiap kali) */
+    public IndexedBestFirstSearch setPartialExpansion(boolean enabled) {
+        this.partialExpansion = enabled;
+        return this;
+    }
+    
+    /* Branch and bound: node dengan g + h >= upperBound ga pernah disimpan (udah ada solusi dengan cost segitu) */
+    public IndexedBestFirstSearch setUpperBound(int upperBound) {
+        this.upperBound = upperBound;
+        return this;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        Puzzle puzzle = searchBoard.getPuzzle();
+        NodeArena arena = new NodeArena();
+        IndexedNodeHeap open = new IndexedNodeHeap();
+        StateMap nodes = new StateMap(puzzle.getStateWords());
+        long[] stateWords = new long[puzzle.getStateWords()];
+        
+        // Satu board mutable yang digeser (undo/redo) ke node yang lagi di-expand
+        Board board = new Board(searchBoard);
+        int initialHeuristic = heuristic.estimate(board);
+        if (initialHeuristic >= upperBound) {
+            return null;
+        }
+        int boardNode = arena.add(NodeArena.NO_PARENT, 0, 0, initialHeuristic);
+        board.encodeState(stateWords);
+        nodes.put(stateWords, board.getZobristHash(), boardNode);
+        open.add(boardNode, ordering.priority(0, initialHeuristic));
+        
+        while (!open.isEmpty()) {
+            int storedValue = open.peekPriority();
+            int current = open.poll();
+            stats.nodeExpanded();
+            
+            arena.moveBoard(board, boardNode, current);
+            boardNode = current;
+            
+            if (board.isSolvedAtRightExit()) {
+                return arena.getPathMoves(current, puzzle);
+            }
+            
+            int cost = arena.getCost(current);
+            List<Move> moves = board.getNextMoves();
+            if (filter != null) {
+                moves = filter.filter(board, moves);
+            }
+            
+            int nextStoredValue = Integer.MAX_VALUE;
+            for (Move move : moves) {
+                board.encodeStateAfter(move, stateWords);
+                long hash = board.getZobristHashAfter(move);
+                int existing = nodes.get(stateWords, hash);
+                
+                if (existing != StateMap.NOT_FOUND && cost + 1 >= arena.getCost(existing)) {
+                    continue;
+                }
+                
+                int h;
+                if (existing == StateMap.NOT_FOUND) {
+                    board.doMove(move);
+                    h = heuristic.estimate(board);
+                    board.undoMove(move);
+                } else {
+                    h = arena.getHeuristic(existing);
+                }
+                
+                if (h >= upperBound - (cost + 1)) {
+                    continue;
+                }
+                
+                if (partialExpansion) {
+                    int f = ordering.priority(cost + 1, h);
+                    if (f > storedValue) {
+                        // Belum waktunya: dibikin nanti pas node ini di-expand lagi dengan F yang lebih gede
+                        nextStoredValue = Math.min(nextStoredValue, f);
+                        continue;
+                    }
+                }
+                
+                if (existing == StateMap.NOT_FOUND) {
+                    int next = arena.add(current, NodeArena.packMove(puzzle, move), cost + 1, h);
+                    nodes.put(stateWords, hash, next);
+                    open.add(next, ordering.priority(cost + 1, h));
+                    stats.nodeGenerated();
+                    continue;
+                }
+                
+                // Path lebih murah ke state yang udah ada: h-nya sama, cukup ganti parent dan g
+                arena.update(existing, current, NodeArena.packMove(puzzle, move), cost + 1);
+                int priority = ordering.priority(cost + 1, h);
+                if (open.contains(existing)) {
+                    open.decreaseKey(existing, priority);
+                } else {
+                    open.add(existing, priority);
+                }
+                stats.nodeGenerated();
+            }
+            
+            if (nextStoredValue != Integer.MAX_VALUE) {
+                open.add(current, nextStoredValue);
+            }
+        }
+        
+        return null;
+    }
+}
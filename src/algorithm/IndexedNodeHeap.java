@@ -0,0 +1,128 @@
+package algorithm;
+
+import java.util.Arrays;
+
+/* Min-heap binary kaya NodeHeap, tapi posisi tiap node di heap dicatat (node -> slot),
+   jadi node yang udah ada di open list bisa dicek dan prioritasnya diturunin di tempat.
+   Satu node cuma boleh ada sekali di heap. */
+public final class IndexedNodeHeap implements OpenList {
+    private static final int ABSENT = -1;
+    
+    private int[] nodes;
+    private int[] priorities;
+    private int[] slots;        // slots[node] = posisi node di heap, ABSENT kalau ga ada
+    private int size;
+    
+    public IndexedNodeHeap() {
+        this(1 << 12);
+    }
+    
+    public IndexedNodeHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        nodes = new int[capacity];
+        priorities = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, ABSENT);
+    }
+    
+    @Override
+    public void add(int node, int priority) {
+        if (contains(node)) {
+            throw new IllegalArgumentException("Node " + node + " is already in the heap.");
+        }
+        if (size == nodes.length) {
+            int capacity = nodes.length + (nodes.length >> 1);
+            if (capacity < 0) {
+                throw new IllegalStateException("Node heap is full.");
+            }
+            nodes = Arrays.copyOf(nodes, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+        if (node >= slots.length) {
+            int oldLength = slots.length;
+            slots = Arrays.copyOf(slots, Math.max(node + 1, oldLength + (oldLength >> 1)));
+            Arrays.fill(slots, oldLength, slots.length, ABSENT);
+        }
+        
+        siftUp(size++, node, priority);
+    }
+    
+    /* Node ini lagi ada di open list atau ga */
+    public boolean contains(int node) {
+        return node < slots.length && slots[node] != ABSENT;
+    }
+    
+    /* Turunin prioritas node yang udah ada di heap (prioritas baru ga boleh lebih gede) */
+    public void decreaseKey(int node, int priority) {
+        int slot = slots[node];
+        if (priority > priorities[slot]) {
+            throw new IllegalArgumentException("New priority is larger than the current one.");
+        }
+        
+        siftUp(slot, node, priority);
+    }
+    
+    @Override
+    public int poll() {
+        int result = nodes[0];
+        slots[result] = ABSENT;
+        int n = --size;
+        int node = nodes[n];
+        int priority = priorities[n];
+        
+        if (n > 0) {
+            siftDown(0, node, priority, n);
+        }
+        
+        return result;
+    }
+    
+    private void siftUp(int k, int node, int priority) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            place(k, nodes[parent], priorities[parent]);
+            k = parent;
+        }
+        place(k, node, priority);
+    }
+    
+    private void siftDown(int k, int node, int priority, int n) {
+        int half = n >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            int right = child + 1;
+            if (right < n && priorities[child] > priorities[right]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            place(k, nodes[child], priorities[child]);
+            k = child;
+        }
+        place(k, node, priority);
+    }
+    
+    private void place(int k, int node, int priority) {
+        nodes[k] = node;
+        priorities[k] = priority;
+        slots[node] = k;
+    }
+    
+    public int peekPriority() {
+        return priorities[0];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,134 @@
+package algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import model.Board;
+import model.Move;
+
+/* IDA*: DFS berbatas threshold f = g + h di satu board mutable, move di-apply/undo in-place.
+   Duplikat dicek ke state di path sekarang (visited). Buffer key dan list move dipake ulang per kedalaman,
+   jadi tiap node ga bikin array/list baru. */
+public final class IterativeDeepeningSearch implements SearchStrategy {
+    private final Heuristic heuristic;
+    private int upperBound = Integer.MAX_VALUE;
+    
+    private List<Move> path;
+    private boolean found;
+    private RelevanceFilter filter;
+    private SearchStats stats;
+    private long[][] keyBuffers = new long[0][];        // buffer key successor per kedalaman
+    private List<List<Move>> moveBuffers = new ArrayList<>();   // list move per kedalaman
+    
+    public IterativeDeepeningSearch(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+    
+    /* Branch and bound: berhenti (return null) begitu threshold-nya nyampe upperBound, karena udah ada solusi segitu */
+    public IterativeDeepeningSearch setUpperBound(int upperBound) {
+        this.upperBound = upperBound;
+        return this;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        this.filter = filter;
+        this.stats = stats;
+        keyBuffers = new long[0][];
+        moveBuffers.clear();
+        
+        Board board = new Board(searchBoard);
+        int initialHeuristic = heuristic.estimate(board);
+        int threshold = initialHeuristic;
+        if (threshold >= upperBound) {
+            return null;
+        }
+        
+        int stateWords = board.getPuzzle().getStateWords();
+        long[] initialKey = board.encodeState();
+        long initialHash = board.getZobristHash();
+        
+        while (true) {
+            StateSet visited = new StateSet(stateWords);
+            visited.add(initialKey, initialHash);
+            stats.nodeExpanded();
+            
+            path = new ArrayList<>();
+            found = false;
+            
+            int result = depthFirstSearch(board, 0, initialHeuristic, threshold, visited);
+            
+            if (found) {
+                return path;
+            }
+            
+            threshold = result;
+            if (threshold == Integer.MAX_VALUE || threshold >= upperBound) {
+                return null;
+            }
+            
+            System.out.println("Increasing threshold to: " + threshold);
+        }
+    }
+    
+    /* DFS dengan batas threshold, return f minimum yang lewat threshold (set found kalau ketemu solusi) */
+    private int depthFirstSearch(Board board, int cost, int h, int threshold, StateSet visited) {
+        int f = cost + h;
+        
+        if (f > threshold) {
+            return f;
+        }
+        
+        if (board.isSolvedAtRightExit()) {
+            found = true;
+            return f;
+        }
+        
+        int min = Integer.MAX_VALUE;
+        
+        if (cost == keyBuffers.length) {
+            keyBuffers = Arrays.copyOf(keyBuffers, Math.max(16, cost * 2));
+        }
+        if (keyBuffers[cost] == null) {
+            keyBuffers[cost] = new long[board.getPuzzle().getStateWords()];
+            moveBuffers.add(new ArrayList<>());
+        }
+        long[] nextKey = keyBuffers[cost];
+        List<Move> moves = moveBuffers.get(cost);
+        
+        board.getNextMoves(moves);
+        if (filter != null) {
+            filter.retain(board, moves);
+        }
+        
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            board.encodeStateAfter(move, nextKey);
+            long nextHash = board.getZobristHashAfter(move);
+            
+            if (!visited.add(nextKey, nextHash)) {
+                continue;
+            }
+            stats.nodeExpanded();
+            stats.nodeGenerated();
+            
+            board.doMove(move);
+            path.add(move);
+            
+            int result = depthFirstSearch(board, cost + 1, heuristic.estimate(board), threshold, visited);
+            
+            if (found) {
+                return result;
+            }
+            
+            path.remove(path.size() - 1);
+            board.undoMove(move);
+            
+            min = Math.min(min, result);
+            
+            visited.remove(nextKey, nextHash);
+        }
+        
+        return min;
+    }
+}
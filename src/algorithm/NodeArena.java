@@ -0,0 +1,151 @@
+package algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Tempat nyimpen node pencarian sebagai array primitive paralel (parent, move, g, h).
+   Node ga nyimpen Board, board-nya direkonstruksi dengan replay move dari parent. */
+public final class NodeArena {
+    public static final int NO_PARENT = -1;
+    
+    private int[] parents;
+    private int[] moves;       // move yang di-pack (lihat packMove), 0 buat root
+    private int[] costs;
+    private int[] heuristics;
+    private int size;
+    
+    private int[] pathBuffer = new int[64];
+    
+    public NodeArena() {
+        this(1 << 12);
+    }
+    
+    public NodeArena(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        parents = new int[capacity];
+        moves = new int[capacity];
+        costs = new int[capacity];
+        heuristics = new int[capacity];
+    }
+    
+    /* Tambah node baru, return index-nya */
+    public int add(int parent, int packedMove, int cost, int heuristic) {
+        if (size == parents.length) {
+            int capacity = parents.length + (parents.length >> 1);
+            if (capacity < 0) {
+                throw new IllegalStateException("Node arena is full.");
+            }
+            parents = Arrays.copyOf(parents, capacity);
+            moves = Arrays.copyOf(moves, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            heuristics = Arrays.copyOf(heuristics, capacity);
+        }
+        
+        parents[size] = parent;
+        moves[size] = packedMove;
+        costs[size] = cost;
+        heuristics[size] = heuristic;
+        return size++;
+    }
+    
+    /* Ganti parent node (dapet path yang lebih murah ke state yang sama). Cost baru harus lebih kecil,
+       biar cost tetap naik sepanjang path dan moveBoard tetap jalan */
+    public void update(int node, int parent, int packedMove, int cost) {
+        if (cost >= costs[node]) {
+            throw new IllegalArgumentException("Updated cost must be smaller than the current one.");
+        }
+        
+        parents[node] = parent;
+        moves[node] = packedMove;
+        costs[node] = cost;
+    }
+    
+    /* Pack move jadi satu int: index piece + offset asal + offset tujuan di lane-nya.
+       Offset digeser +1 karena primary bisa nongol di offset -1 (exit kiri/atas). */
+    public static int packMove(Puzzle puzzle, Move move) {
+        int i = move.getPieceIndex();
+        boolean isHorizontal = puzzle.isHorizontal(i);
+        int from = (isHorizontal ? move.getFromCol() : move.getFromRow()) + 1;
+        int target = (isHorizontal ? move.getTargetCol() : move.getTargetRow()) + 1;
+        return (i << 16) | (from << 8) | target;
+    }
+    
+    public static Move unpackMove(Puzzle puzzle, int packedMove) {
+        int i = packedMove >>> 16;
+        int from = ((packedMove >>> 8) & 0xFF) - 1;
+        int target = (packedMove & 0xFF) - 1;
+        int lane = puzzle.getLane(i);
+        
+        if (puzzle.isHorizontal(i)) {
+            return new Move(i, lane, from, lane, target);
+        }
+        return new Move(i, from, lane, target, lane);
+    }
+    
+    public int getParent(int node) {
+        return parents[node];
+    }
+    
+    public int getCost(int node) {
+        return costs[node];
+    }
+    
+    public int getHeuristic(int node) {
+        return heuristics[node];
+    }
+    
+    public Move getMove(int node, Puzzle puzzle) {
+        return unpackMove(puzzle, moves[node]);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /* Kosongin arena, kapasitasnya tetap biar bisa dipake ulang */
+    public void clear() {
+        size = 0;
+    }
+    
+    /* Geser board mutable dari state node `from` ke state node `to`: undo sampai common ancestor,
+       terus redo turun ke `to`. Cost harus naik sepanjang path (ancestor selalu punya cost lebih kecil). */
+    public void moveBoard(Board board, int from, int to) {
+        Puzzle puzzle = board.getPuzzle();
+        int redoCount = 0;
+        
+        while (from != to) {
+            if (to == NO_PARENT || (from != NO_PARENT && costs[from] >= costs[to])) {
+                board.undoMove(unpackMove(puzzle, moves[from]));
+                from = parents[from];
+            } else {
+                if (redoCount == pathBuffer.length) {
+                    pathBuffer = Arrays.copyOf(pathBuffer, redoCount * 2);
+                }
+                pathBuffer[redoCount++] = to;
+                to = parents[to];
+            }
+        }
+        
+        while (redoCount > 0) {
+            board.doMove(unpackMove(puzzle, moves[pathBuffer[--redoCount]]));
+        }
+    }
+    
+    /* Move-move dari root sampai node (urut dari move pertama) */
+    public List<Move> getPathMoves(int node, Puzzle puzzle) {
+        List<Move> path = new ArrayList<>();
+        
+        while (parents[node] != NO_PARENT) {
+            path.add(unpackMove(puzzle, moves[node]));
+            node = parents[node];
+        }
+        
+        Collections.reverse(path);
+        return path;
+    }
+}
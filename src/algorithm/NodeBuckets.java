@@ -0,0 +1,111 @@
+package algorithm;
+
+import java.util.Arrays;
+
+/* Open list bucket (Dial) buat prioritas int kecil: satu bucket per prioritas, add dan poll O(1).
+   Dalam satu bucket urutannya FIFO atau LIFO. Prioritas yang lebih kecil dari bucket yang lagi
+   dibaca tetap boleh masuk (heuristik yang ga konsisten), cursor-nya ikut mundur.
+   Prioritas >= MAX_PRIORITY ga dibikinin bucket, tapi masuk heap cadangan yang baru dibaca
+   kalau semua bucket udah kosong, jadi heuristik yang nilainya gede ga bikin search-nya crash. */
+public final class NodeBuckets implements OpenList {
+    private static final int MAX_PRIORITY = 1 << 20;
+    
+    private final boolean lifo;
+    private int[][] buckets = new int[64][];
+    private int[] heads = new int[64];      // FIFO: index elemen pertama yang belum diambil
+    private int[] tails = new int[64];
+    private int cursor;                     // bucket terkecil yang mungkin ga kosong
+    private int bucketed;                   // jumlah node di bucket (sisanya di overflow)
+    private NodeHeap overflow;              // node dengan prioritas >= MAX_PRIORITY, dibikin pas pertama dipake
+    private int size;
+    
+    public NodeBuckets(boolean lifo) {
+        this.lifo = lifo;
+    }
+    
+    public static NodeBuckets fifo() {
+        return new NodeBuckets(false);
+    }
+    
+    public static NodeBuckets lifo() {
+        return new NodeBuckets(true);
+    }
+    
+    @Override
+    public void add(int node, int priority) {
+        if (priority < 0) {
+            throw new IllegalArgumentException("Priority " + priority + " is negative.");
+        }
+        if (priority >= MAX_PRIORITY) {
+            if (overflow == null) {
+                overflow = new NodeHeap(16);
+            }
+            overflow.add(node, priority);
+            size++;
+            return;
+        }
+        if (priority >= buckets.length) {
+            int capacity = Math.max(priority + 1, buckets.length * 2);
+            buckets = Arrays.copyOf(buckets, capacity);
+            heads = Arrays.copyOf(heads, capacity);
+            tails = Arrays.copyOf(tails, capacity);
+        }
+        
+        int[] bucket = buckets[priority];
+        int tail = tails[priority];
+        if (bucket == null) {
+            bucket = buckets[priority] = new int[16];
+        } else if (tail == bucket.length) {
+            int head = heads[priority];
+            if (head >= bucket.length / 2) {
+                // Bucket FIFO yang diisi sambil dibaca: geser sisanya ke depan daripada array-nya melar terus
+                System.arraycopy(bucket, head, bucket, 0, tail - head);
+                tail -= head;
+                heads[priority] = 0;
+            } else {
+                bucket = buckets[priority] = Arrays.copyOf(bucket, bucket.length * 2);
+            }
+        }
+        
+        bucket[tail] = node;
+        tails[priority] = tail + 1;
+        if (priority < cursor) {
+            cursor = priority;
+        }
+        bucketed++;
+        size++;
+    }
+    
+    @Override
+    public int poll() {
+        if (bucketed == 0) {
+            size--;
+            return overflow.poll();
+        }
+        
+        while (heads[cursor] == tails[cursor]) {
+            cursor++;
+        }
+        
+        int[] bucket = buckets[cursor];
+        int node = lifo ? bucket[--tails[cursor]] : bucket[heads[cursor]++];
+        if (heads[cursor] == tails[cursor]) {
+            // Bucket kosong: mulai dari awal lagi biar array-nya ga melar terus
+            heads[cursor] = 0;
+            tails[cursor] = 0;
+        }
+        bucketed--;
+        size--;
+        return node;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
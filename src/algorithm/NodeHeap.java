@@ -0,0 +1,91 @@
+package algorithm;
+
+import java.util.Arrays;
+
+/* Min-heap binary isinya index node dan prioritasnya, tanpa boxing.
+   Urutan sift-nya sama kaya java.util.PriorityQueue, jadi tie-break-nya juga sama. */
+public final class NodeHeap implements OpenList {
+    private int[] nodes;
+    private int[] priorities;
+    private int size;
+    
+    public NodeHeap() {
+        this(1 << 12);
+    }
+    
+    public NodeHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        nodes = new int[capacity];
+        priorities = new int[capacity];
+    }
+    
+    @Override
+    public void add(int node, int priority) {
+        if (size == nodes.length) {
+            int capacity = nodes.length + (nodes.length >> 1);
+            if (capacity < 0) {
+                throw new IllegalStateException("Node heap is full.");
+            }
+            nodes = Arrays.copyOf(nodes, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+        
+        int k = size++;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            nodes[k] = nodes[parent];
+            priorities[k] = priorities[parent];
+            k = parent;
+        }
+        nodes[k] = node;
+        priorities[k] = priority;
+    }
+    
+    /* Ambil node dengan prioritas terkecil, heap ga boleh kosong */
+    @Override
+    public int poll() {
+        int result = nodes[0];
+        int n = --size;
+        int node = nodes[n];
+        int priority = priorities[n];
+        
+        int k = 0;
+        int half = n >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            int right = child + 1;
+            if (right < n && priorities[child] > priorities[right]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            nodes[k] = nodes[child];
+            priorities[k] = priorities[child];
+            k = child;
+        }
+        if (n > 0) {
+            nodes[k] = node;
+            priorities[k] = priority;
+        }
+        
+        return result;
+    }
+    
+    public int peekPriority() {
+        return priorities[0];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,10 @@
+package algorithm;
+
+/* Prioritas node di open list dari cost (g) dan heuristik (h), makin kecil makin duluan */
+public interface NodeOrdering {
+    NodeOrdering UNIFORM_COST = (cost, heuristic) -> cost;
+    NodeOrdering GREEDY = (cost, heuristic) -> heuristic;
+    NodeOrdering A_STAR = (cost, heuristic) -> cost + heuristic;
+    
+    int priority(int cost, int heuristic);
+}
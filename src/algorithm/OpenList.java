@@ -0,0 +1,13 @@
+package algorithm;
+
+/* Open list berisi index node (NodeArena) dengan prioritas int, makin kecil makin duluan */
+public interface OpenList {
+    void add(int node, int priority);
+    
+    /* Ambil node dengan prioritas terkecil, open list ga boleh kosong */
+    int poll();
+    
+    int size();
+    
+    boolean isEmpty();
+}
@@ -0,0 +1,117 @@
+package algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import model.Board;
+import model.Move;
+import model.Puzzle;
+
+/* Pruning relevansi dinamis: di tiap state cuma piece di closure penghalang jalur primary yang digeser.
+   Closure-nya: piece yang nutup jalur primary ke exit, terus piece yang nutup tempat piece itu
+   harus minggir (ke dua arah), dan seterusnya. Board harus udah dinormalisasi (exit di kanan).
+   Pruning ini ga ngejamin optimal, dan bisa motong semua jalan ke solusi, jadi solver yang
+   make harus ngulang tanpa filter kalau search-nya gagal. */
+public final class RelevanceFilter {
+    private boolean[] relevant = new boolean[0];
+    private int[] pending = new int[0];    // pasangan (piece, posisi di lane yang harus dikosongin)
+    
+    /* Move dari daftar ini yang piece-nya ada di closure state board sekarang (semua move kalau ga ada yang lolos) */
+    public List<Move> filter(Board board, List<Move> moves) {
+        markRelevantPieces(board);
+        
+        List<Move> filtered = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            if (relevant[move.getPieceIndex()]) {
+                filtered.add(move);
+            }
+        }
+        
+        // Closure-nya ga bisa gerak sama sekali: expand semua biar search-nya ga mati di state ini
+        return filtered.isEmpty() ? moves : filtered;
+    }
+    
+    /* Sama kaya filter(), tapi move yang ga relevan dibuang langsung dari list-nya (ga bikin list baru) */
+    public void retain(Board board, List<Move> moves) {
+        markRelevantPieces(board);
+        
+        int kept = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            if (relevant[move.getPieceIndex()]) {
+                moves.set(kept++, move);
+            }
+        }
+        
+        if (kept > 0) {
+            moves.subList(kept, moves.size()).clear();
+        }
+    }
+    
+    private void markRelevantPieces(Board board) {
+        Puzzle puzzle = board.getPuzzle();
+        int n = puzzle.getPieceCount();
+        if (relevant.length != n) {
+            relevant = new boolean[n];
+            pending = new int[2 * n];
+        }
+        Arrays.fill(relevant, false);
+        
+        int primary = puzzle.getPrimaryIndex();
+        if (primary == -1) {
+            return;
+        }
+        
+        // Jalur primary: cell di kanan primary sampai tepi board. Primary sendiri baru ditandain di akhir,
+        // biar kalau ada piece lain yang butuh primary minggir, penghalang primary ikut masuk closure
+        int size = 0;
+        int primaryRow = board.getPieceRow(primary);
+        for (int col = board.getPieceCol(primary) + puzzle.getLength(primary); col < board.getCols(); col++) {
+            size = require(board, primaryRow, col, size);
+        }
+        
+        while (size > 0) {
+            int along = pending[--size];
+            int piece = pending[--size];
+            int start = board.getPieceOffset(piece);
+            int length = puzzle.getLength(piece);
+            int laneLength = puzzle.getLaneLength(piece);
+            
+            // Minggir ke bawah/kiri: piece harus berakhir sebelum `along`
+            if (along - length >= 0) {
+                for (int a = along - length; a < start; a++) {
+                    size = requireLaneCell(board, piece, a, size);
+                }
+            }
+            // Minggir ke atas/kanan: piece harus mulai setelah `along`
+            if (along + length < laneLength) {
+                for (int a = start + length; a <= along + length; a++) {
+                    size = requireLaneCell(board, piece, a, size);
+                }
+            }
+        }
+        
+        relevant[primary] = true;
+    }
+    
+    private int requireLaneCell(Board board, int pieceIndex, int along, int size) {
+        Puzzle puzzle = board.getPuzzle();
+        int lane = puzzle.getLane(pieceIndex);
+        return puzzle.isHorizontal(pieceIndex)
+            ? require(board, lane, along, size)
+            : require(board, along, lane, size);
+    }
+    
+    /* Piece yang nempatin cell ini harus minggir: tandain relevan dan masukin ke antrian sekali aja */
+    private int require(Board board, int row, int col, int size) {
+        int occupant = board.getPieceAt(row, col);
+        if (occupant == -1 || relevant[occupant]) {
+            return size;
+        }
+        
+        relevant[occupant] = true;
+        pending[size++] = occupant;
+        pending[size++] = board.getPuzzle().isHorizontal(occupant) ? col : row;
+        return size;
+    }
+}
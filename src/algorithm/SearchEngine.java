@@ -0,0 +1,113 @@
+package algorithm;
+
+import java.util.List;
+import model.Board;
+import model.BoardSnapshot;
+import model.ExitTransform;
+import model.Move;
+import model.Piece;
+import model.RelevantPieces;
+import util.BoardPrinter;
+
+/* Inti pencarian yang dipake semua solver: buang piece yang ga relevan, pindahin exit ke kanan,
+   jalanin strategy di board hasilnya, terus petain solusinya balik ke board asli. */
+public final class SearchEngine {
+    private SearchEngine() {
+    }
+    
+    /* Board yang udah direduksi + dinormalisasi buat strategy, plus cara metain path-nya balik ke board asli */
+    public static final class Problem {
+        private final RelevantPieces relevance;
+        private final ExitTransform transform;
+        private final Board searchBoard;
+        
+        private Problem(Board initialBoard) {
+            relevance = RelevantPieces.analyze(initialBoard);
+            Board reducedBoard = relevance.reduce(initialBoard);
+            transform = ExitTransform.forBoard(reducedBoard);
+            searchBoard = transform.normalize(reducedBoard);
+        }
+        
+        public Board getSearchBoard() {
+            return searchBoard;
+        }
+        
+        /* Path di search board -> path yang sama di board asli */
+        public List<Move> toOriginal(List<Move> path) {
+            return relevance.toOriginal(transform.toOriginal(searchBoard.getPuzzle(), path));
+        }
+    }
+    
+    public static Problem prepare(Board initialBoard) {
+        return new Problem(initialBoard);
+    }
+    
+    public static SearchResult run(Board initialBoard, SearchStrategy strategy, boolean relevancePruning) {
+        long startTime = System.currentTimeMillis();
+        return run(prepare(initialBoard), strategy, relevancePruning, startTime);
+    }
+    
+    /* Sama kaya run(Board, ...), buat caller yang butuh Problem-nya duluan (misal buat metain solusi sementara) */
+    public static SearchResult run(Problem problem, SearchStrategy strategy, boolean relevancePruning) {
+        return run(problem, strategy, relevancePruning, System.currentTimeMillis());
+    }
+    
+    private static SearchResult run(Problem problem, SearchStrategy strategy, boolean relevancePruning, long startTime) {
+        Board searchBoard = problem.getSearchBoard();
+        
+        SearchStats stats = new SearchStats();
+        List<Move> path = strategy.search(searchBoard, relevancePruning ? new RelevanceFilter() : null, stats);
+        if (path == null && relevancePruning) {
+            // Pruning relevansi bisa motong semua jalan ke solusi, jadi ulang tanpa pruning biar tetap complete
+            path = strategy.search(searchBoard, null, stats);
+        }
+        
+        long endTime = System.currentTimeMillis();
+        double executionTime = (endTime - startTime) / 1000.0;
+        
+        List<Move> moves = path == null ? null : problem.toOriginal(path);
+        return new SearchResult(moves, stats.getNodesExpanded(), stats.getNodesGenerated(), executionTime);
+    }
+    
+    /* Cetak langkah solusi + statistik ke stdout, dan kirim tiap langkah ke collector GUI kalau ada */
+    public static void report(Board initialBoard, SearchResult result, gui.Gui.SolutionCollector collector) {
+        report(initialBoard, result, collector, "Tidak ada solusi yang ditemukan!");
+    }
+    
+    /* Sama kaya report(), tapi pesan kalau gagal bisa diganti (misal solver yang ga complete) */
+    public static void report(Board initialBoard, SearchResult result, gui.Gui.SolutionCollector collector,
+                              String unsolvedMessage) {
+        if (result.isSolved() && collector != null) {
+            for (BoardSnapshot step : BoardSnapshot.replay(initialBoard, result.getMoves())) {
+                collector.addStep(step);
+            }
+        }
+        
+        if (result.isSolved()) {
+            printSolution(result.getMoves(), initialBoard);
+            
+            System.out.println("Jumlah langkah: " + result.getCost());
+        } else {
+            System.out.println(unsolvedMessage);
+        }
+        System.out.println("Jumlah node yang diperiksa: " + result.getNodesExpanded());
+        System.out.println("Waktu eksekusi: " + result.getExecutionTime() + " detik");
+    }
+    
+    private static void printSolution(List<Move> moves, Board initialBoard) {
+        Board board = initialBoard;
+        
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            board = board.applyMove(move);
+            
+            Piece piece = board.getPiece(move.getPieceIndex());
+            String pieceName = piece.getName();
+            
+            String direction = move.getDirection(piece.isVertical());
+            int distance = move.getDistance(piece.isVertical());
+            
+            BoardPrinter.printBoardAfterMove(board, i + 1, pieceName, direction, distance);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package algorithm;
+
+import java.util.Collections;
+import java.util.List;
+import model.Move;
+
+/* Hasil satu kali search: move solusi (di koordinat board asli), statistik node, dan waktu */
+public final class SearchResult {
+    private final List<Move> moves;     // null kalau ga ada solusi
+    private final int nodesExpanded;
+    private final int nodesGenerated;
+    private final double executionTime; // detik
+    
+    public SearchResult(List<Move> moves, int nodesExpanded, int nodesGenerated, double executionTime) {
+        this.moves = moves == null ? null : Collections.unmodifiableList(moves);
+        this.nodesExpanded = nodesExpanded;
+        this.nodesGenerated = nodesGenerated;
+        this.executionTime = executionTime;
+    }
+    
+    public boolean isSolved() {
+        return moves != null;
+    }
+    
+    /* Move dari board awal sampai solved, list kosong kalau ga ada solusi */
+    public List<Move> getMoves() {
+        return moves == null ? Collections.emptyList() : moves;
+    }
+    
+    public int getCost() {
+        return getMoves().size();
+    }
+    
+    public int getNodesExpanded() {
+        return nodesExpanded;
+    }
+    
+    public int getNodesGenerated() {
+        return nodesGenerated;
+    }
+    
+    public double getExecutionTime() {
+        return executionTime;
+    }
+}
@@ -0,0 +1,23 @@
+package algorithm;
+
+/* Counter node yang diupdate strategy selama search */
+public final class SearchStats {
+    private int nodesExpanded;
+    private int nodesGenerated;
+    
+    public void nodeExpanded() {
+        nodesExpanded++;
+    }
+    
+    public void nodeGenerated() {
+        nodesGenerated++;
+    }
+    
+    public int getNodesExpanded() {
+        return nodesExpanded;
+    }
+    
+    public int getNodesGenerated() {
+        return nodesGenerated;
+    }
+}
@@ -0,0 +1,11 @@
+package algorithm;
+
+import java.util.List;
+import model.Board;
+import model.Move;
+
+/* Algoritma pencarian yang dijalanin SearchEngine di board normal (exit di kanan) */
+public interface SearchStrategy {
+    /* Move solusi di board ini, atau null kalau ga ketemu. Kalau filter ga null, successor dipruning relevansi */
+    List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats);
+}
@@ -0,0 +1,11 @@
+package algorithm;
+
+import model.Board;
+
+/* Solver yang bisa dipanggil dari CLI maupun GUI. solve() nyetak board awal, langkah solusi,
+   dan statistik ke stdout, terus balikin hasilnya buat dipake caller. */
+public interface Solver {
+    SearchResult solve(Board initialBoard);
+    
+    int getNodesVisited();
+}
@@ -0,0 +1,55 @@
+package algorithm;
+
+/* Hash map open addressing dari state board yang udah di-pack (lihat Board.encodeState) ke int
+   (biasanya index node di NodeArena). Probing-nya di StateTable, value disimpan di array paralel per slot. */
+public final class StateMap extends StateTable {
+    public static final int NOT_FOUND = -1;
+    
+    private int[] values;
+    private int[] previousValues;      // values tabel lama selama resize
+    
+    public StateMap(int wordsPerKey) {
+        this(wordsPerKey, DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+    
+    public StateMap(int wordsPerKey, int initialCapacity, float loadFactor) {
+        super(wordsPerKey, initialCapacity, loadFactor);
+    }
+    
+    @Override
+    void allocateSlots(int capacity) {
+        previousValues = values;
+        values = new int[capacity];
+    }
+    
+    @Override
+    void moveSlot(int from, int to) {
+        values[to] = values[from];
+    }
+    
+    @Override
+    void rehashSlot(int oldSlot, int newSlot) {
+        values[newSlot] = previousValues[oldSlot];
+    }
+    
+    @Override
+    void finishRehash() {
+        previousValues = null;
+    }
+    
+    /* Value buat key ini, atau NOT_FOUND kalau key-nya belum ada */
+    public int get(long[] words, long hash) {
+        int slot = find(words, storedHash(hash));
+        return slot >= 0 ? values[slot] : NOT_FOUND;
+    }
+    
+    /* Masukin atau timpa value buat key ini */
+    public void put(long[] words, long hash, int value) {
+        hash = storedHash(hash);
+        int slot = find(words, hash);
+        if (slot < 0) {
+            slot = insert(-slot - 1, words, hash);
+        }
+        values[slot] = value;
+    }
+}
@@ -0,0 +1,29 @@
+package algorithm;
+
+/* Hash set open addressing buat state board yang udah di-pack (lihat Board.encodeState).
+   Probing-nya di StateTable, set cuma nyimpen key tanpa data tambahan per slot. */
+public final class StateSet extends StateTable {
+    public StateSet(int wordsPerKey) {
+        this(wordsPerKey, DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+    
+    public StateSet(int wordsPerKey, int initialCapacity, float loadFactor) {
+        super(wordsPerKey, initialCapacity, loadFactor);
+    }
+    
+    public boolean contains(long[] words, long hash) {
+        return find(words, storedHash(hash)) >= 0;
+    }
+    
+    /* Return true kalau key baru dimasukin, false kalau udah ada */
+    public boolean add(long[] words, long hash) {
+        hash = storedHash(hash);
+        int slot = find(words, hash);
+        if (slot >= 0) {
+            return false;
+        }
+        
+        insert(-slot - 1, words, hash);
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package algorithm;
+
+import java.util.Arrays;
+
+/* Dasar hash table open addressing buat state board yang udah di-pack (lihat Board.encodeState),
+   dipake StateSet dan StateMap. Semua key disimpan flat di satu long[], jadi ga ada alokasi object per state.
+   Probing linear, kapasitas selalu pangkat 2, resize kalau size > kapasitas * loadFactor.
+   Subclass yang punya data per slot (value) ngikutin lewat hook allocateSlots/moveSlot/rehashSlot/finishRehash. */
+abstract class StateTable {
+    private static final int MAX_CAPACITY = 1 << 30;
+    
+    public static final int DEFAULT_CAPACITY = 1 << 12;
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    
+    private final int wordsPerKey;
+    private final float loadFactor;
+    
+    private long[] hashes;     // 0 = slot kosong
+    private long[] keys;       // slot i ada di keys[i * wordsPerKey .. (i + 1) * wordsPerKey)
+    private int mask;
+    private int shift;
+    private int size;
+    private int resizeAt;
+    
+    StateTable(int wordsPerKey, int initialCapacity, float loadFactor) {
+        if (wordsPerKey <= 0) {
+            throw new IllegalArgumentException("Words per key must be positive.");
+        }
+        if (!(loadFactor > 0f && loadFactor < 1f)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+        }
+        
+        this.wordsPerKey = wordsPerKey;
+        this.loadFactor = loadFactor;
+        
+        int capacity = 2;
+        while (capacity < initialCapacity && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+    
+    /* Dipanggil tiap kali tabel dialokasi ulang, sebelum entry lama di-rehash */
+    void allocateSlots(int capacity) {
+    }
+    
+    /* Entry pindah dari slot `from` ke `to` di tabel yang sama (waktu remove) */
+    void moveSlot(int from, int to) {
+    }
+    
+    /* Entry dari slot `oldSlot` tabel lama masuk ke slot `newSlot` tabel baru (waktu resize) */
+    void rehashSlot(int oldSlot, int newSlot) {
+    }
+    
+    /* Semua entry udah pindah ke tabel baru, data tabel lama boleh dibuang */
+    void finishRehash() {
+    }
+    
+    private void allocate(int capacity) {
+        if ((long) capacity * wordsPerKey > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("State table is full.");
+        }
+        
+        hashes = new long[capacity];
+        keys = new long[capacity * wordsPerKey];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = Math.min((int) (capacity * loadFactor), capacity - 1);
+        allocateSlots(capacity);
+    }
+    
+    /* Hash 0 dipake buat tanda slot kosong, jadi digeser ke 1 */
+    static long storedHash(long hash) {
+        return hash == 0L ? 1L : hash;
+    }
+    
+    /* Fibonacci hashing, biar bit atas hash ikut nentuin slot */
+    private int slotOf(long hash) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+    
+    private boolean keyEquals(int slot, long[] words) {
+        int base = slot * wordsPerKey;
+        for (int i = 0; i < wordsPerKey; i++) {
+            if (keys[base + i] != words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /* Slot tempat key berada, atau -(slot kosong pertama) - 1 kalau ga ada. Hash-nya harus udah lewat storedHash */
+    final int find(long[] words, long hash) {
+        int slot = slotOf(hash);
+        
+        while (hashes[slot] != 0L) {
+            if (hashes[slot] == hash && keyEquals(slot, words)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        return -slot - 1;
+    }
+    
+    /* Isi slot kosong hasil find(), return slot tempat key-nya sekarang (bisa beda kalau tabelnya di-resize) */
+    final int insert(int slot, long[] words, long hash) {
+        hashes[slot] = hash;
+        System.arraycopy(words, 0, keys, slot * wordsPerKey, wordsPerKey);
+        
+        if (++size > resizeAt) {
+            resize();
+            slot = find(words, hash);
+        }
+        return slot;
+    }
+    
+    /* Hapus key, slot-slot setelahnya digeser mundur biar ga perlu tombstone */
+    public boolean remove(long[] words, long hash) {
+        int slot = find(words, storedHash(hash));
+        if (slot < 0) {
+            return false;
+        }
+        
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (hashes[next] != 0L) {
+            int home = slotOf(hashes[next]);
+            // entry di next boleh ngisi hole kalau home-nya ga ada di antara (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                hashes[hole] = hashes[next];
+                System.arraycopy(keys, next * wordsPerKey, keys, hole * wordsPerKey, wordsPerKey);
+                moveSlot(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        
+        hashes[hole] = 0L;
+        Arrays.fill(keys, hole * wordsPerKey, (hole + 1) * wordsPerKey, 0L);
+        size--;
+        return true;
+    }
+    
+    private void resize() {
+        if (hashes.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("State table is full.");
+        }
+        
+        long[] oldHashes = hashes;
+        long[] oldKeys = keys;
+        allocate(oldHashes.length << 1);
+        
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] == 0L) {
+                continue;
+            }
+            
+            int slot = slotOf(oldHashes[i]);
+            while (hashes[slot] != 0L) {
+                slot = (slot + 1) & mask;
+            }
+            
+            hashes[slot] = oldHashes[i];
+            System.arraycopy(oldKeys, i * wordsPerKey, keys, slot * wordsPerKey, wordsPerKey);
+            rehashSlot(i, slot);
+        }
+        finishRehash();
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public void clear() {
+        Arrays.fill(hashes, 0L);
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+}
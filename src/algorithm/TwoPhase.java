@@ -0,0 +1,55 @@
+package algorithm;
+
+import java.util.function.IntFunction;
+import model.Board;
+import util.BoardPrinter;
+
+public class TwoPhase implements Solver {
+    private int nodesVisited = 0;
+    private int heuristicType;
+    private boolean iterativeDeepening;
+    private gui.Gui.SolutionCollector collector;
+    private boolean relevancePruning = true;
+    
+    public TwoPhase(int heuristicType, boolean iterativeDeepening, gui.Gui.SolutionCollector collector) {
+        this.heuristicType = heuristicType;
+        this.iterativeDeepening = iterativeDeepening;
+        this.collector = collector;
+    }
+    
+    public TwoPhase() {
+        this(Heuristics.BLOCKING_PIECES, false, null);
+    }
+    
+    /* Fungsi solver dua fase: GBFS pake heuristik pilihan buat upper bound, terus A* (atau IDA*)
+       branch and bound pake lower bound yang admissible, jadi hasil akhirnya optimal */
+    @Override
+    public SearchResult solve(Board initialBoard) {
+        System.out.println("Using heuristic: " + Heuristics.getName(heuristicType));
+        
+        BoardPrinter.printInitialBoard(initialBoard);
+        
+        SearchStrategy greedy = new BestFirstSearch(NodeOrdering.GREEDY, Heuristics.greedyForType(heuristicType), ClosedSet::new, NodeBuckets::fifo);
+        Heuristic lowerBound = Heuristics::admissibleLowerBound;
+        IntFunction<SearchStrategy> bounded = iterativeDeepening
+            ? upperBound -> new IterativeDeepeningSearch(lowerBound).setUpperBound(upperBound)
+            : upperBound -> new IndexedBestFirstSearch(NodeOrdering.A_STAR, lowerBound).setUpperBound(upperBound);
+        
+        SearchResult result = SearchEngine.run(initialBoard, new TwoPhaseSearch(greedy, bounded), relevancePruning);
+        nodesVisited = result.getNodesExpanded();
+        
+        SearchEngine.report(initialBoard, result, collector);
+        return result;
+    }
+    
+    /* Pruning relevansi dinamis, cuma dipake di fase greedy (fase kedua selalu tanpa pruning).
+       Default nyala: fase greedy cuma nyari upper bound */
+    public void setRelevancePruning(boolean enabled) {
+        this.relevancePruning = enabled;
+    }
+    
+    @Override
+    public int getNodesVisited(){
+        return this.nodesVisited;
+    }
+}
@@ -0,0 +1,31 @@
+package algorithm;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import model.Board;
+import model.Move;
+
+/* Dua fase: search greedy dulu buat dapet solusi dengan cost U (upper bound), terus search optimal
+   yang motong semua node dengan g + h >= U. Kalau fase kedua ga nemu apa-apa, solusi greedy-nya
+   udah optimal. Fase kedua selalu tanpa pruning relevansi biar optimalnya ga rusak. */
+public final class TwoPhaseSearch implements SearchStrategy {
+    private final SearchStrategy greedy;
+    private final IntFunction<SearchStrategy> bounded;     // upper bound -> strategy branch and bound
+    
+    public TwoPhaseSearch(SearchStrategy greedy, IntFunction<SearchStrategy> bounded) {
+        this.greedy = greedy;
+        this.bounded = bounded;
+    }
+    
+    @Override
+    public List<Move> search(Board searchBoard, RelevanceFilter filter, SearchStats stats) {
+        List<Move> incumbent = greedy.search(searchBoard, filter, stats);
+        if (incumbent == null) {
+            return null;
+        }
+        
+        System.out.println("Greedy upper bound: " + incumbent.size());
+        List<Move> better = bounded.apply(incumbent.size()).search(searchBoard, null, stats);
+        return better != null ? better : incumbent;
+    }
+}
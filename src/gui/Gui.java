@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import algorithm.*;
 import model.Board;
+import model.BoardSnapshot;
 import model.Move;
 import model.Piece;
 import util.FileParser;
@@ -27,6 +28,8 @@ public class Gui extends JFrame {
     private JButton saveButton;
     private JComboBox<String> algorithmSelector;
     private JComboBox<String> heuristicSelector;
+    private JSpinner timeBudgetSpinner;
+    private JSpinner beamWidthSpinner;
     private JLabel statusLabel;
     private JSlider animationSpeedSlider;
     private JButton playPauseButton;
@@ -34,7 +37,7 @@ public class Gui extends JFrame {
     private JButton stepButton;
     
     private Board currentBoard;
-    private List<Board> solutionSteps;
+    private List<BoardSnapshot> solutionSteps;
     private List<Move> solutionMoves;
     private int currentStep = 0;
     private Timer animationTimer;
@@ -46,7 +49,7 @@ public class Gui extends JFrame {
     private int nodesVisited = 0;
     private double executionTime = 0;
     
-    private Map<Character, Color> pieceColors = new HashMap<>();
+    private Map<String, Color> pieceColors = new HashMap<>();
     
     public Gui() {
         super("Rush Hour Puzzle Solver");
@@ -123,7 +126,12 @@ public class Gui extends JFrame {
             "Uniform Cost Search (UCS)",
             "Greedy Best-First Search (GBFS)",
             "A* Search",
-            "IDA* Search"
+            "IDA* Search",
+            "GBFS + Branch and Bound A*",
+            "GBFS + Branch and Bound IDA*",
+            "Anytime Repairing A* (ARA*)",
+            "Beam Search (auto-widen)",
+            "Enforced Hill-Climbing"
         });
         
         heuristicSelector = new JComboBox<>(new String[] {
@@ -133,9 +141,19 @@ public class Gui extends JFrame {
         });
         heuristicSelector.setEnabled(false);
         
+        // Batas waktu ARA* dalam ms
+        timeBudgetSpinner = new JSpinner(new SpinnerNumberModel(1000, 10, 600000, 100));
+        timeBudgetSpinner.setEnabled(false);
+        
+        // Lebar beam awal, dilebarin otomatis kalau ga ketemu solusi
+        beamWidthSpinner = new JSpinner(new SpinnerNumberModel(Beam.DEFAULT_WIDTH, 1, 1 << 14, 10));
+        beamWidthSpinner.setEnabled(false);
+        
         algorithmSelector.addActionListener(e -> {
             int selectedIndex = algorithmSelector.getSelectedIndex();
-            heuristicSelector.setEnabled(selectedIndex != 0);
+            heuristicSelector.setEnabled(selectedIndex != 0 && selectedIndex != 6);
+            timeBudgetSpinner.setEnabled(selectedIndex == 6);
+            beamWidthSpinner.setEnabled(selectedIndex == 7);
         });
         
         solveButton = new JButton("Solve");
@@ -146,6 +164,10 @@ public class Gui extends JFrame {
         algoPanel.add(algorithmSelector);
         algoPanel.add(new JLabel("Heuristic:"));
         algoPanel.add(heuristicSelector);
+        algoPanel.add(new JLabel("Budget (ms):"));
+        algoPanel.add(timeBudgetSpinner);
+        algoPanel.add(new JLabel("Beam width:"));
+        algoPanel.add(beamWidthSpinner);
         algoPanel.add(solveButton);
         
         topPanel.add(filePanel, BorderLayout.NORTH);
@@ -292,7 +314,7 @@ public class Gui extends JFrame {
                 writer.println("Rush Hour Puzzle Solution");
                 writer.println("========================");
                 writer.println("Algorithm: " + algorithmSelector.getSelectedItem());
-                if (algorithmSelector.getSelectedIndex() != 0) {
+                if (heuristicSelector.isEnabled()) {
                     writer.println("Heuristic: " + heuristicSelector.getSelectedItem());
                 }
                 writer.println("Total steps: " + (solutionSteps.size() - 1));
@@ -306,14 +328,14 @@ public class Gui extends JFrame {
                 
                 for (int i = 1; i < solutionSteps.size(); i++) {
                     Move move = solutionMoves.get(i-1);
-                    Board board = solutionSteps.get(i);
+                    BoardSnapshot board = solutionSteps.get(i);
                     Piece piece = board.getPieces().get(move.getPieceIndex());
-                    char pieceId = piece.getId();
+                    String pieceName = piece.getName();
                     
                     String direction = move.getDirection(piece.isVertical());
                     int distance = move.getDistance(piece.isVertical());
                     
-                    writer.println("Step " + i + ": Move piece " + pieceId + 
+                    writer.println("Step " + i + ": Move piece " + pieceName + 
                                   " " + distance + " cell(s) " + direction);
                     writer.println(board.toString());
                     writer.println();
@@ -337,6 +359,8 @@ public class Gui extends JFrame {
     
     int algorithmIndex = algorithmSelector.getSelectedIndex();
     int heuristicIndex = heuristicSelector.getSelectedIndex() + 1;
+    long timeBudget = ((Number) timeBudgetSpinner.getValue()).longValue();
+    int beamWidth = ((Number) beamWidthSpinner.getValue()).intValue();
     
     solutionSteps = null;
     solutionMoves = null;
@@ -350,9 +374,9 @@ public class Gui extends JFrame {
     solveButton.setEnabled(false);
     statusLabel.setText("Solving puzzle...");
     
-    new SwingWorker<List<Board>, Void>() {
+    new SwingWorker<List<BoardSnapshot>, Void>() {
         @Override
-        protected List<Board> doInBackground() throws Exception {
+        protected List<BoardSnapshot> doInBackground() throws Exception {
             SolutionCollector collector = new SolutionCollector();
             
             long startTime = System.currentTimeMillis();
@@ -378,6 +402,32 @@ public class Gui extends JFrame {
                     idaStar.solve(currentBoard);
                     nodesVisited = idaStar.getNodesVisited();
                     break;
+                case 4: // GBFS + B&B A*
+                case 5: // GBFS + B&B IDA*
+                    TwoPhase twoPhase = new TwoPhase(heuristicIndex, algorithmIndex == 5, collector);
+                    twoPhase.solve(currentBoard);
+                    nodesVisited = twoPhase.getNodesVisited();
+                    break;
+                case 6: // ARA*
+                    ARAStar araStar = new ARAStar(timeBudget, collector);
+                    // Tampilin solusi terbaik sementara (bisa di-play) selama search masih jalan
+                    araStar.setImprovementListener((path, weight) -> {
+                        List<BoardSnapshot> steps = BoardSnapshot.replay(currentBoard, path);
+                        SwingUtilities.invokeLater(() -> showBestSoFar(steps, weight));
+                    });
+                    araStar.solve(currentBoard);
+                    nodesVisited = araStar.getNodesVisited();
+                    break;
+                case 7: // Beam
+                    Beam beam = new Beam(heuristicIndex, beamWidth, true, collector);
+                    beam.solve(currentBoard);
+                    nodesVisited = beam.getNodesVisited();
+                    break;
+                case 8: // Enforced hill-climbing
+                    HillClimbing hillClimbing = new HillClimbing(heuristicIndex, collector);
+                    hillClimbing.solve(currentBoard);
+                    nodesVisited = hillClimbing.getNodesVisited();
+                    break;
             }
             
             long endTime = System.currentTimeMillis();
@@ -426,6 +476,27 @@ public class Gui extends JFrame {
         }.execute();
     }
     
+    // Solusi sementara dari solver anytime, nanti diganti hasil akhirnya di done()
+    private void showBestSoFar(List<BoardSnapshot> steps, double weight) {
+        if (animationRunning.get()) {
+            animationTimer.stop();
+            animationRunning.set(false);
+            playPauseButton.setText("Play");
+        }
+        
+        solutionSteps = steps;
+        solutionMoves = extractMoves(steps);
+        currentStep = 0;
+        showExitAnimation = false;
+        showingFinalState = false;
+        updateBoardDisplay();
+        
+        playPauseButton.setEnabled(true);
+        stopButton.setEnabled(true);
+        stepButton.setEnabled(true);
+        statusLabel.setText("Best so far: " + (steps.size() - 1) + " steps (weight " + weight + "), still searching...");
+    }
+    
     // buat play pause
     private void togglePlayPause() {
         if (solutionSteps == null || solutionSteps.size() <= 1) {
@@ -513,8 +584,8 @@ public class Gui extends JFrame {
             return;
         }
         
-        Board boardToDraw = (solutionSteps != null && currentStep < solutionSteps.size()) ? 
-                            solutionSteps.get(currentStep) : currentBoard;
+        BoardSnapshot boardToDraw = (solutionSteps != null && currentStep < solutionSteps.size()) ? 
+                            solutionSteps.get(currentStep) : currentBoard.snapshot();
         
         int rows = boardToDraw.getRows();
         int cols = boardToDraw.getCols();
@@ -568,17 +639,17 @@ public class Gui extends JFrame {
             int col = piece.getCol();
             int length = piece.getLength();
             boolean isVertical = piece.isVertical();
-            char id = piece.getId();
+            String id = piece.getName();
             
-            if (showExitAnimation && !showingFinalState && id == 'P' && 
+            if (showExitAnimation && !showingFinalState && piece.isPrimary() && 
                 solutionSteps != null && currentStep == solutionSteps.size() - 1) {
                 System.out.println("Skipping primary piece (P) for vanishing effect!");
                 continue;
             }
             
-            Color pieceColor = getPieceColor(id);
+            Color pieceColor = getPieceColor(piece);
             
-            boolean isPrimary = (id == 'P');
+            boolean isPrimary = piece.isPrimary();
             boolean isLastStep = (solutionSteps != null && currentStep == solutionSteps.size() - 1);
             
             boolean showExiting = isPrimary && isLastStep && showingFinalState;
@@ -649,7 +720,7 @@ public class Gui extends JFrame {
             Font font = new Font("Arial", Font.BOLD, cellSize / 3);
             g.setFont(font);
             
-            String text = String.valueOf(id);
+            String text = id;
             FontMetrics metrics = g.getFontMetrics(font);
             int textX, textY;
             
@@ -712,11 +783,12 @@ public class Gui extends JFrame {
         }
     }
     
-    private Color getPieceColor(char id) {
-        if (id == 'P') {
+    private Color getPieceColor(Piece piece) {
+        if (piece.isPrimary()) {
             return Color.RED;
         }
         
+        String id = piece.getName();
         if (!pieceColors.containsKey(id)) {
             pieceColors.put(id, generatePastelColor());
         }
@@ -736,9 +808,9 @@ public class Gui extends JFrame {
         pieceColors.clear();
         
         for (Piece piece : currentBoard.getPieces()) {
-            char id = piece.getId();
+            String id = piece.getName();
             
-            if (id == 'P') {
+            if (piece.isPrimary()) {
                 pieceColors.put(id, Color.RED);
             } else {
                 pieceColors.put(id, generatePastelColor());
@@ -746,7 +818,7 @@ public class Gui extends JFrame {
         }
     }
     
-    private List<Move> extractMoves(List<Board> steps) {
+    private List<Move> extractMoves(List<BoardSnapshot> steps) {
         List<Move> moves = new ArrayList<>();
         
         if (steps == null || steps.size() < 2) {
@@ -754,8 +826,8 @@ public class Gui extends JFrame {
         }
         
         for (int i = 1; i < steps.size(); i++) {
-            Board prev = steps.get(i-1);
-            Board curr = steps.get(i);
+            BoardSnapshot prev = steps.get(i-1);
+            BoardSnapshot curr = steps.get(i);
             
             List<Piece> prevPieces = prev.getPieces();
             List<Piece> currPieces = curr.getPieces();
@@ -782,14 +854,19 @@ public class Gui extends JFrame {
         return moves;
     }
     
+    /* Nyimpen langkah solusi sebagai snapshot immutable, jadi bisa langsung dibaca dari EDT tanpa copy lagi */
     public static class SolutionCollector {
-        private List<Board> solutionSteps = new ArrayList<>();
+        private List<BoardSnapshot> solutionSteps = new ArrayList<>();
         
         public void addStep(Board board) {
-            solutionSteps.add(new Board(board));
+            solutionSteps.add(board.snapshot());
+        }
+        
+        public void addStep(BoardSnapshot snapshot) {
+            solutionSteps.add(snapshot);
         }
         
-        public List<Board> getSolutionSteps() {
+        public List<BoardSnapshot> getSolutionSteps() {
             return solutionSteps;
         }
     }
@@ -4,147 +4,164 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/* State board: puzzle (immutable, di-share) + offset tiap piece di lane-nya */
 public class Board {
-    private int rows;        
-    private int cols;           
-    private char[][] grid;      
-    private int exitRow;         
-    private int exitCol;         
-    private ArrayList<Piece> pieces;
+    private Puzzle puzzle;
+    private byte[] offsets;          // col kalau piece horizontal, row kalau vertikal
+    private long zobristHash;
+    private long[] rowOccupancy;     // bit c nyala kalau cell (r, c) ditempati piece
+    private long[] colOccupancy;     // bit r nyala kalau cell (r, c) ditempati piece
     
-    private static final int BORDER_SIZE = 1;
+    public static final int MAX_SIZE = 64;    // satu lane harus muat di satu long
     
     /* Konstruktor Board */
     public Board(int rows, int cols) {
-        this.rows = rows;
-        this.cols = cols;
-        this.grid = new char[rows + 2*BORDER_SIZE][cols + 2*BORDER_SIZE];
-        this.pieces = new ArrayList<>();
-        
-        for (int i = 0; i < rows + 2*BORDER_SIZE; i++) {
-            Arrays.fill(grid[i], '.');
+        if (rows > MAX_SIZE || cols > MAX_SIZE) {
+            throw new IllegalArgumentException("Board is too large. Maximum size is " + MAX_SIZE + "x" + MAX_SIZE + ".");
         }
         
-        this.exitRow = -1;
-        this.exitCol = -1;
+        this.puzzle = new Puzzle(rows, cols);
+        this.offsets = new byte[0];
+        this.zobristHash = 0L;
+        this.rowOccupancy = new long[rows];
+        this.colOccupancy = new long[cols];
     }
     
-    /* CCtor */
+    /* CCtor, puzzle-nya di-share, cuma state yang dicopy */
     public Board(Board other) {
-        this.rows = other.rows;
-        this.cols = other.cols;
-        this.exitRow = other.exitRow;
-        this.exitCol = other.exitCol;
-        
-        this.grid = new char[rows + 2*BORDER_SIZE][cols + 2*BORDER_SIZE];
-        for (int i = 0; i < rows + 2*BORDER_SIZE; i++) {
-            System.arraycopy(other.grid[i], 0, this.grid[i], 0, cols + 2*BORDER_SIZE);
-        }
+        this.puzzle = other.puzzle;
+        this.offsets = other.offsets.clone();
+        this.zobristHash = other.zobristHash;
+        this.rowOccupancy = other.rowOccupancy.clone();
+        this.colOccupancy = other.colOccupancy.clone();
+    }
+    
+    /* Board dari puzzle + offset yang udah ada (dipake BoardSnapshot), occupancy dan hash dihitung ulang */
+    Board(Puzzle puzzle, byte[] offsets) {
+        this.puzzle = puzzle;
+        this.offsets = offsets;
+        this.zobristHash = 0L;
+        this.rowOccupancy = new long[puzzle.getRows()];
+        this.colOccupancy = new long[puzzle.getCols()];
         
-        this.pieces = new ArrayList<>();
-        for (Piece piece : other.pieces) {
-            this.pieces.add(new Piece(piece));
+        for (int i = 0; i < offsets.length; i++) {
+            zobristHash ^= puzzle.zobristKey(i, offsets[i]);
+            setPieceOccupancy(i, true);
         }
     }
     
-
+    /* Snapshot immutable dari state sekarang, aman dikirim ke thread lain */
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(puzzle, offsets.clone(), zobristHash);
+    }
+    
     public void setExit(int row, int col) {
-        this.exitRow = row;
-        this.exitCol = col;
-        
-        int borderRow, borderCol;
-        
-        if (row == -1) {                        // exit atas
-            borderRow = 0;
-            borderCol = col + BORDER_SIZE;
-        } else if (row == rows) {               // exit bawah
-            borderRow = rows + BORDER_SIZE;
-            borderCol = col + BORDER_SIZE;
-        } else if (col == -1) {                 // exit kiri
-            borderRow = row + BORDER_SIZE;
-            borderCol = 0;
-        } else if (col == cols) {               // exit kanan
-            borderRow = row + BORDER_SIZE;
-            borderCol = cols + BORDER_SIZE;
-        } else {                                // case di dalem
-            borderRow = row + BORDER_SIZE;
-            borderCol = col + BORDER_SIZE;
-        }
-        
-        grid[borderRow][borderCol] = 'K';
+        puzzle = puzzle.withExit(row, col);
     }
     
-    public void addPiece(Piece piece) {
-        pieces.add(piece);
-        updatePieceInGrid(piece);
+    /* Precompute tabel move tiap lane, dipanggil sekali setelah semua piece ditambahin */
+    public void prepareMoveTables() {
+        puzzle = puzzle.withMoveTables();
     }
     
-    private void updatePieceInGrid(Piece piece) {
-        int row = piece.getRow();
-        int col = piece.getCol();
-        int length = piece.getLength();
-        boolean isHorizontal = piece.isHorizontal();
-        char symbol = piece.getSymbol();
+    public void addPiece(Piece piece) {
+        puzzle = puzzle.withPiece(piece);
         
-        int gridRow = row + BORDER_SIZE;
-        int gridCol = col + BORDER_SIZE;
+        int index = offsets.length;
+        offsets = Arrays.copyOf(offsets, index + 1);
+        offsets[index] = (byte) laneOffset(piece);
         
-        for (int i = 0; i < length; i++) {
-            int r = isHorizontal ? gridRow : gridRow + i;
-            int c = isHorizontal ? gridCol + i : gridCol;
-            
-            if (r >= BORDER_SIZE && r < rows + BORDER_SIZE && 
-                c >= BORDER_SIZE && c < cols + BORDER_SIZE) {
-                if (grid[r][c] != 'K') {
-                    grid[r][c] = symbol;
-                }
-            }
-        }
+        zobristHash ^= puzzle.zobristKey(index, offsets[index]);
+        setPieceOccupancy(index, true);
     }
     
-    public void updateGrid() {
-        for (int i = 0; i < rows + 2*BORDER_SIZE; i++) {
-            Arrays.fill(grid[i], '.');
-        }
+    /* Posisi piece di lane-nya: col kalau horizontal, row kalau vertikal */
+    private static int laneOffset(Piece piece) {
+        return piece.isHorizontal() ? piece.getCol() : piece.getRow();
+    }
+    
+    /* Mask bit [0, n) */
+    private static long lowMask(int n) {
+        return n >= 64 ? -1L : (1L << n) - 1;
+    }
+    
+    /* Mask bit [from, to) */
+    private static long rangeMask(int from, int to) {
+        return lowMask(to) & ~lowMask(from);
+    }
+    
+    /* Nyala/matiin bit occupancy buat cell-cell piece yang ada di dalam board */
+    private void setPieceOccupancy(int pieceIndex, boolean occupied) {
+        int rows = puzzle.getRows();
+        int cols = puzzle.getCols();
+        int lane = puzzle.getLane(pieceIndex);
+        int start = offsets[pieceIndex];
+        int length = puzzle.getLength(pieceIndex);
         
-        if (exitRow != -1 || exitCol != -1) {
-            int borderRow, borderCol;
+        if (puzzle.isHorizontal(pieceIndex)) {
+            int from = Math.max(start, 0);
+            int to = Math.min(start + length, cols);
+            if (lane < 0 || lane >= rows || from >= to) {
+                return;
+            }
             
-            if (exitRow == -1) {                    // exit atas
-                borderRow = 0;
-                borderCol = exitCol + BORDER_SIZE;
-            } else if (exitRow == rows) {           // exit bawah
-                borderRow = rows + BORDER_SIZE;
-                borderCol = exitCol + BORDER_SIZE;
-            } else if (exitCol == -1) {             // exit kiri
-                borderRow = exitRow + BORDER_SIZE;
-                borderCol = 0;
-            } else if (exitCol == cols) {           // exit kanan
-                borderRow = exitRow + BORDER_SIZE;
-                borderCol = cols + BORDER_SIZE;
-            } else {
-                borderRow = exitRow + BORDER_SIZE;
-                borderCol = exitCol + BORDER_SIZE;
+            long bits = rangeMask(from, to);
+            rowOccupancy[lane] = occupied ? rowOccupancy[lane] | bits : rowOccupancy[lane] & ~bits;
+            for (int c = from; c < to; c++) {
+                colOccupancy[c] = occupied ? colOccupancy[c] | (1L << lane) : colOccupancy[c] & ~(1L << lane);
+            }
+        } else {
+            int from = Math.max(start, 0);
+            int to = Math.min(start + length, rows);
+            if (lane < 0 || lane >= cols || from >= to) {
+                return;
             }
             
-            grid[borderRow][borderCol] = 'K';
+            long bits = rangeMask(from, to);
+            colOccupancy[lane] = occupied ? colOccupancy[lane] | bits : colOccupancy[lane] & ~bits;
+            for (int r = from; r < to; r++) {
+                rowOccupancy[r] = occupied ? rowOccupancy[r] | (1L << lane) : rowOccupancy[r] & ~(1L << lane);
+            }
         }
+    }
+    
+    /* Cell yang nutup lane ini buat sebuah piece (selain primary, cell K di dalam board juga nutup) */
+    private long laneBlockers(boolean isHorizontal, int lane, boolean isPrimary) {
+        long blockers = isHorizontal ? rowOccupancy[lane] : colOccupancy[lane];
         
-        for (Piece piece : pieces) {
-            updatePieceInGrid(piece);
+        if (!isPrimary && puzzle.hasInteriorExit()) {
+            if (isHorizontal && lane == puzzle.getExitRow()) {
+                blockers |= 1L << puzzle.getExitCol();
+            } else if (!isHorizontal && lane == puzzle.getExitCol()) {
+                blockers |= 1L << puzzle.getExitRow();
+            }
         }
+        
+        return blockers;
+    }
+    
+    /* Pindahin piece ke offset baru + update occupancy dan hash-nya, O(panjang piece) */
+    private void relocatePiece(int pieceIndex, int targetOffset) {
+        zobristHash ^= puzzle.zobristKey(pieceIndex, offsets[pieceIndex]);
+        setPieceOccupancy(pieceIndex, false);
+        
+        offsets[pieceIndex] = (byte) targetOffset;
+        
+        setPieceOccupancy(pieceIndex, true);
+        zobristHash ^= puzzle.zobristKey(pieceIndex, targetOffset);
     }
     
-    /* Move piece */
+    /* Move piece (cuma bisa geser di lane-nya sendiri) */
     public boolean movePieceTo(Piece piece, int targetRow, int targetCol) {
-        if (canPlacePiece(piece, targetRow, targetCol)) {
-            // Update piece position
+        int index = puzzle.indexOf(piece.getName());
+        if (index < 0 || (piece.isHorizontal() ? targetRow : targetCol) != puzzle.getLane(index)) {
+            return false;
+        }
+        
+        if (canPlacePiece(getPiece(index), targetRow, targetCol)) {
+            relocatePiece(index, piece.isHorizontal() ? targetCol : targetRow);
             piece.setRow(targetRow);
             piece.setCol(targetCol);
-            
-            // Update the grid
-            updateGrid();
-            
             return true;
         }
         
@@ -164,142 +181,77 @@ public class Board {
         return movePieceTo(piece, newRow, newCol);
     }
     
-    /* Ngecek bisa atau ga */
+    /* Ngecek bisa atau ga, pake mask occupancy lane tujuan */
     public boolean canPlacePiece(Piece piece, int newRow, int newCol) {
+        int rows = puzzle.getRows();
+        int cols = puzzle.getCols();
         int length = piece.getLength();
         boolean isHorizontal = piece.isHorizontal();
         boolean isPrimary = piece.isPrimary();
         
-        int gridRow = newRow + BORDER_SIZE;
-        int gridCol = newCol + BORDER_SIZE;
+        int lane = isHorizontal ? newRow : newCol;
+        int start = isHorizontal ? newCol : newRow;
+        int laneCount = isHorizontal ? rows : cols;
+        int laneLength = isHorizontal ? cols : rows;
         
-        for (int i = 0; i < length; i++) {
-            int r = isHorizontal ? gridRow : gridRow + i;
-            int c = isHorizontal ? gridCol + i : gridCol;
-            
-            boolean outsideBoard = r < BORDER_SIZE || r >= rows + BORDER_SIZE || 
-                                  c < BORDER_SIZE || c >= cols + BORDER_SIZE;
-            
-            if (outsideBoard) {
-                if (isPrimary) {
-                    // Top exit
-                    if (exitRow == -1 && r == 0 && c == exitCol + BORDER_SIZE) {
-                        continue;
-                    }
-                    // Bottom exit
-                    if (exitRow == rows && r == rows + BORDER_SIZE && c == exitCol + BORDER_SIZE) {
-                        continue;
-                    }
-                    // Left exit
-                    if (exitCol == -1 && c == 0 && r == exitRow + BORDER_SIZE) {
-                        continue;
-                    }
-                    // Right exit
-                    if (exitCol == cols && c == cols + BORDER_SIZE && r == exitRow + BORDER_SIZE) {
-                        continue;
-                    }
-                }
-                return false;
-            }
-            
-            boolean isOwnPosition = false;
-            int origRow = piece.getRow() + BORDER_SIZE;
-            int origCol = piece.getCol() + BORDER_SIZE;
-            
-            for (int j = 0; j < length; j++) {
-                int origR = isHorizontal ? origRow : origRow + j;
-                int origC = isHorizontal ? origCol + j : origCol;
+        if (lane < 0 || lane >= laneCount || start < 0 || start + length > laneLength) {
+            // Cell di luar board cuma boleh kalau itu cell exit dan piece-nya primary
+            for (int i = 0; i < length; i++) {
+                int r = isHorizontal ? newRow : newRow + i;
+                int c = isHorizontal ? newCol + i : newCol;
                 
-                if (r == origR && c == origC) {
-                    isOwnPosition = true;
-                    break;
+                boolean outsideBoard = r < 0 || r >= rows || c < 0 || c >= cols;
+                if (outsideBoard && !(isPrimary && r == puzzle.getExitRow() && c == puzzle.getExitCol())) {
+                    return false;
                 }
             }
             
-            if (!isOwnPosition) {
-                if (grid[r][c] != '.' && !(isPrimary && grid[r][c] == 'K')) {
-                    return false;
-                }
+            if (lane < 0 || lane >= laneCount) {
+                return true;
             }
         }
         
-        return true;
-    }
-    
-    /* Ngecek apakah cleat buat bbrp perjalanan sekaligus */
-    private boolean isClearPath(Piece piece, int targetRow, int targetCol) {
-        int currentRow = piece.getRow();
-        int currentCol = piece.getCol();
-        boolean isHorizontal = piece.isHorizontal();
+        long target = rangeMask(Math.max(start, 0), Math.min(start + length, laneLength));
         
-        if (isHorizontal) {
-            int minCol = Math.min(currentCol, targetCol);
-            int maxCol = Math.max(currentCol, targetCol);
-            
-            for (int c = minCol + 1; c <= maxCol; c++) {
-                if (c == currentCol) continue;
-                
-                Board tempBoard = new Board(this);
-                Piece tempPiece = tempBoard.getPieces().get(pieces.indexOf(piece));
-                
-                if (!tempBoard.movePieceTo(tempPiece, currentRow, c)) {
-                    return false;
-                }
-            }
-        } 
-        else {
-            int minRow = Math.min(currentRow, targetRow);
-            int maxRow = Math.max(currentRow, targetRow);
-            
-            for (int r = minRow + 1; r <= maxRow; r++) {
-                if (r == currentRow) continue;
-                
-                Board tempBoard = new Board(this);
-                Piece tempPiece = tempBoard.getPieces().get(pieces.indexOf(piece));
-                
-                if (!tempBoard.movePieceTo(tempPiece, r, currentCol)) {
-                    return false;
-                }
-            }
+        long own = 0L;
+        if ((isHorizontal ? piece.getRow() : piece.getCol()) == lane) {
+            int current = laneOffset(piece);
+            own = rangeMask(Math.max(current, 0), Math.min(current + length, laneLength));
         }
         
-        return true;
+        return (laneBlockers(isHorizontal, lane, isPrimary) & ~own & target) == 0;
     }
     
     public boolean isSolved() {
-        Piece primaryPiece = null;
-        for (Piece piece : pieces) {
-            if (piece.isPrimary()) {
-                primaryPiece = piece;
-                break;
-            }
-        }
-        
-        if (primaryPiece == null) {
+        int primaryIndex = puzzle.getPrimaryIndex();
+        if (primaryIndex == -1) {
             return false;
         }
         
-        int row = primaryPiece.getRow();
-        int col = primaryPiece.getCol();
-        int length = primaryPiece.getLength();
-        boolean isHorizontal = primaryPiece.isHorizontal();
+        int rows = puzzle.getRows();
+        int cols = puzzle.getCols();
+        int exitRow = puzzle.getExitRow();
+        int exitCol = puzzle.getExitCol();
+        int lane = puzzle.getLane(primaryIndex);
+        int offset = offsets[primaryIndex];
+        int length = puzzle.getLength(primaryIndex);
         
-        if (isHorizontal) {
+        if (puzzle.isHorizontal(primaryIndex)) {
             // kalau exit di kanan
-            if (exitCol == cols && row == exitRow && col + length - 1 == cols - 1) {
+            if (exitCol == cols && lane == exitRow && offset + length - 1 == cols - 1) {
                 return true;
             }
             // kalau exit di kiri
-            else if (exitCol == -1 && row == exitRow && col == 0) {
+            else if (exitCol == -1 && lane == exitRow && offset == 0) {
                 return true;
             }
         } else {
             // kalau exit di atas
-            if (exitRow == -1 && col == exitCol && row == 0) {
+            if (exitRow == -1 && lane == exitCol && offset == 0) {
                 return true;
             }
             // kalau exit di bawah
-            else if (exitRow == rows && col == exitCol && row + length - 1 == rows - 1) {
+            else if (exitRow == rows && lane == exitCol && offset + length - 1 == rows - 1) {
                 return true;
             }
         }
@@ -307,94 +259,367 @@ public class Board {
         return false;
     }
     
-    public List<Board> getNextStates() {
-        List<Board> nextStates = new ArrayList<>();
+    /* isSolved() khusus board yang exit-nya di kanan (hasil ExitTransform.normalize), tanpa cabang per sisi exit */
+    public boolean isSolvedAtRightExit() {
+        int primaryIndex = puzzle.getPrimaryIndex();
+        return primaryIndex != -1
+            && puzzle.isHorizontal(primaryIndex)
+            && puzzle.getExitCol() == puzzle.getCols()
+            && puzzle.getLane(primaryIndex) == puzzle.getExitRow()
+            && offsets[primaryIndex] + puzzle.getLength(primaryIndex) == puzzle.getCols();
+    }
+    
+    /* Generate semua move valid: batas geser tiap piece dicari dari mask occupancy lane-nya */
+    public List<Move> getNextMoves() {
+        List<Move> moves = new ArrayList<>();
+        getNextMoves(moves);
+        return moves;
+    }
+    
+    /* Sama kaya getNextMoves(), tapi ditulis ke list punya caller (dikosongin dulu) */
+    public void getNextMoves(List<Move> moves) {
+        moves.clear();
         
-        for (int i = 0; i < pieces.size(); i++) {
-            Piece piece = pieces.get(i);
-            boolean isHorizontal = piece.isHorizontal();
-            int currentRow = piece.getRow();
-            int currentCol = piece.getCol();
+        for (int i = 0; i < offsets.length; i++) {
+            boolean isHorizontal = puzzle.isHorizontal(i);
+            int lane = puzzle.getLane(i);
+            int start = offsets[i];
+            int length = puzzle.getLength(i);
+            int laneLength = puzzle.getLaneLength(i);
             
-            if (isHorizontal) {
-                for (int newCol = 0; newCol <= cols - piece.getLength(); newCol++) {
-                    if (newCol == currentCol) continue;
-                    
-                    if (isClearPath(piece, currentRow, newCol)) {
-                        Board newBoard = new Board(this);
-                        Piece newPiece = newBoard.getPieces().get(i);
-                        
-                        if (newBoard.movePieceTo(newPiece, currentRow, newCol)) {
-                            nextStates.add(newBoard);
-                        }
-                    }
-                }
+            if (lane < 0 || lane >= (isHorizontal ? puzzle.getRows() : puzzle.getCols())) {
+                continue;
+            }
+            
+            int end = start + length;
+            long own = rangeMask(Math.max(start, 0), Math.min(end, laneLength));
+            long blockers = laneBlockers(isHorizontal, lane, puzzle.isPrimary(i)) & ~own;
+            
+            int minStart;
+            int maxStart;
+            
+            LaneMoveTable table = puzzle.getMoveTable(i);
+            if (table != null && start >= 0 && end <= laneLength) {
+                int range = table.lookup(start, blockers);
+                minStart = range & 0xFF;
+                maxStart = range >>> 8;
             } else {
-                for (int newRow = 0; newRow <= rows - piece.getLength(); newRow++) {
-                    if (newRow == currentRow) continue;
-                    
-                    if (isClearPath(piece, newRow, currentCol)) {
-                        Board newBoard = new Board(this);
-                        Piece newPiece = newBoard.getPieces().get(i);
-                        
-                        if (newBoard.movePieceTo(newPiece, newRow, currentCol)) {
-                            nextStates.add(newBoard);
-                        }
-                    }
+                // Halangan terdekat di bawah start dan di atas ujung piece
+                long below = blockers & lowMask(Math.max(start, 0));
+                minStart = below == 0 ? 0 : 64 - Long.numberOfLeadingZeros(below);
+                
+                maxStart = start;
+                if (end < laneLength) {
+                    long above = blockers & rangeMask(end, laneLength);
+                    maxStart = (above == 0 ? laneLength : Long.numberOfTrailingZeros(above)) - length;
+                }
+            }
+            
+            for (int newStart = minStart; newStart <= maxStart; newStart++) {
+                if (newStart == start) {
+                    continue;
+                }
+                
+                if (isHorizontal) {
+                    moves.add(new Move(i, lane, start, lane, newStart));
+                } else {
+                    moves.add(new Move(i, start, lane, newStart, lane));
                 }
             }
         }
+    }
+    
+    /* Bikin board baru hasil move (successor baru dibuat kalau memang diminta) */
+    public Board applyMove(Move move) {
+        Board newBoard = new Board(this);
+        newBoard.doMove(move);
+        return newBoard;
+    }
+    
+    /* Apply move langsung ke board ini (in-place), move harus dari getNextMoves() */
+    public void doMove(Move move) {
+        int i = move.getPieceIndex();
+        relocatePiece(i, puzzle.isHorizontal(i) ? move.getTargetCol() : move.getTargetRow());
+    }
+    
+    /* Balikin move yang terakhir di-doMove, board balik persis ke state sebelumnya */
+    public void undoMove(Move move) {
+        int i = move.getPieceIndex();
+        relocatePiece(i, puzzle.isHorizontal(i) ? move.getFromCol() : move.getFromRow());
+    }
+    
+    public List<Board> getNextStates() {
+        List<Move> moves = getNextMoves();
+        List<Board> nextStates = new ArrayList<>(moves.size());
+        
+        for (Move move : moves) {
+            nextStates.add(applyMove(move));
+        }
         
         return nextStates;
     }
     
+    public Puzzle getPuzzle() {
+        return puzzle;
+    }
+    
     public int getRows() {
-        return rows;
+        return puzzle.getRows();
     }
     
     public int getCols() {
-        return cols;
+        return puzzle.getCols();
     }
     
     public int getExitRow() {
-        return exitRow;
+        return puzzle.getExitRow();
     }
     
     public int getExitCol() {
-        return exitCol;
+        return puzzle.getExitCol();
+    }
+    
+    /* Piece di index ini sebagai object baru (ubah object-nya ga ngubah board) */
+    public Piece getPiece(int pieceIndex) {
+        int lane = puzzle.getLane(pieceIndex);
+        int offset = offsets[pieceIndex];
+        boolean isVertical = puzzle.isVertical(pieceIndex);
+        
+        return new Piece(
+            puzzle.getName(pieceIndex),
+            isVertical ? offset : lane,
+            isVertical ? lane : offset,
+            puzzle.getLength(pieceIndex),
+            isVertical,
+            puzzle.isPrimary(pieceIndex)
+        );
     }
     
     public ArrayList<Piece> getPieces() {
+        ArrayList<Piece> pieces = new ArrayList<>(offsets.length);
+        for (int i = 0; i < offsets.length; i++) {
+            pieces.add(getPiece(i));
+        }
         return pieces;
     }
     
     public Piece getPrimaryPiece() {
-        for (Piece piece : pieces) {
-            if (piece.isPrimary()) {
-                return piece;
+        int primaryIndex = puzzle.getPrimaryIndex();
+        return primaryIndex == -1 ? null : getPiece(primaryIndex);
+    }
+    
+    public int getPrimaryIndex() {
+        return puzzle.getPrimaryIndex();
+    }
+    
+    /* Posisi piece tanpa bikin object Piece */
+    public int getPieceRow(int pieceIndex) {
+        return puzzle.isVertical(pieceIndex) ? offsets[pieceIndex] : puzzle.getLane(pieceIndex);
+    }
+    
+    public int getPieceCol(int pieceIndex) {
+        return puzzle.isVertical(pieceIndex) ? puzzle.getLane(pieceIndex) : offsets[pieceIndex];
+    }
+    
+    /* Offset piece di lane-nya (col kalau horizontal, row kalau vertikal) */
+    public int getPieceOffset(int pieceIndex) {
+        return offsets[pieceIndex];
+    }
+    
+    /* Akses cell read-only langsung dari mask occupancy, tanpa copy grid */
+    public boolean isOccupied(int row, int col) {
+        if (row < 0 || row >= puzzle.getRows() || col < 0 || col >= puzzle.getCols()) {
+            return false;
+        }
+        return (rowOccupancy[row] & (1L << col)) != 0;
+    }
+    
+    /* Index piece yang nempatin cell (row, col), -1 kalau kosong. Cuma ngecek piece yang lane-nya lewat cell itu */
+    public int getPieceAt(int row, int col) {
+        if (!isOccupied(row, col)) {
+            return -1;
+        }
+        
+        for (int i : puzzle.getPiecesInRow(row)) {
+            if (col >= offsets[i] && col < offsets[i] + puzzle.getLength(i)) {
+                return i;
+            }
+        }
+        for (int i : puzzle.getPiecesInCol(col)) {
+            if (row >= offsets[i] && row < offsets[i] + puzzle.getLength(i)) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+    
+    /* Isi cell: id piece, 'K' buat exit di dalam board, atau '.' kalau kosong */
+    public char getCell(int row, int col) {
+        if (isOccupied(row, col)) {
+            for (int i = 0; i < offsets.length; i++) {
+                int lane = puzzle.getLane(i);
+                int along = puzzle.isHorizontal(i) ? col : row;
+                if ((puzzle.isHorizontal(i) ? row : col) == lane
+                        && along >= offsets[i] && along < offsets[i] + puzzle.getLength(i)) {
+                    return puzzle.getId(i);
+                }
             }
         }
-        return null;
+        if (row == puzzle.getExitRow() && col == puzzle.getExitCol()) {
+            return 'K';
+        }
+        return '.';
     }
     
-    public char[][] getGrid() {
-        char[][] visibleGrid = new char[rows][cols];
+    /* Jumlah cell terisi di row pada kolom [fromCol, toCol), cukup satu popcount */
+    public int countOccupiedInRow(int row, int fromCol, int toCol) {
+        fromCol = Math.max(fromCol, 0);
+        toCol = Math.min(toCol, puzzle.getCols());
+        if (row < 0 || row >= puzzle.getRows() || fromCol >= toCol) {
+            return 0;
+        }
+        return Long.bitCount(rowOccupancy[row] & rangeMask(fromCol, toCol));
+    }
+    
+    /* Jumlah cell terisi di col pada baris [fromRow, toRow) */
+    public int countOccupiedInCol(int col, int fromRow, int toRow) {
+        fromRow = Math.max(fromRow, 0);
+        toRow = Math.min(toRow, puzzle.getRows());
+        if (col < 0 || col >= puzzle.getCols() || fromRow >= toRow) {
+            return 0;
+        }
+        return Long.bitCount(colOccupancy[col] & rangeMask(fromRow, toRow));
+    }
+    
+    /* Encode offset tiap piece di lane-nya (col kalau horizontal, row kalau vertikal) jadi long[] */
+    public long[] encodeState() {
+        long[] words = new long[puzzle.getStateWords()];
+        encodeState(words);
+        return words;
+    }
+    
+    /* Sama kaya encodeState(), tapi ditulis ke buffer punya caller (panjangnya puzzle.getStateWords()) */
+    public void encodeState(long[] words) {
+        int bits = puzzle.bitsPerOffset();
+        int perWord = 64 / bits;
+        long mask = (1L << bits) - 1;
+        Arrays.fill(words, 0L);
+        
+        for (int i = 0; i < offsets.length; i++) {
+            words[i / perWord] |= (offsets[i] & mask) << ((i % perWord) * bits);
+        }
+    }
+    
+    /* Encode state setelah move ke buffer, tanpa bikin board successor-nya */
+    public void encodeStateAfter(Move move, long[] words) {
+        int bits = puzzle.bitsPerOffset();
+        int perWord = 64 / bits;
+        long mask = (1L << bits) - 1;
+        encodeState(words);
+        
+        int i = move.getPieceIndex();
+        int shift = (i % perWord) * bits;
+        long offset = puzzle.isHorizontal(i) ? move.getTargetCol() : move.getTargetRow();
+        words[i / perWord] = (words[i / perWord] & ~(mask << shift)) | ((offset & mask) << shift);
+    }
+    
+    public StateKey getStateKey() {
+        return new StateKey(encodeState(), zobristHash);
+    }
+    
+    /* Key state setelah move, tanpa perlu bikin board successor-nya */
+    public StateKey getStateKeyAfter(Move move) {
+        long[] words = new long[puzzle.getStateWords()];
+        encodeStateAfter(move, words);
+        return new StateKey(words, getZobristHashAfter(move));
+    }
+    
+    /* Hash Zobrist, diupdate O(1) tiap kali piece pindah */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+    
+    /* Hash Zobrist setelah move, tanpa bikin board successor */
+    public long getZobristHashAfter(Move move) {
+        int i = move.getPieceIndex();
+        boolean isHorizontal = puzzle.isHorizontal(i);
+        int fromOffset = isHorizontal ? move.getFromCol() : move.getFromRow();
+        int targetOffset = isHorizontal ? move.getTargetCol() : move.getTargetRow();
+        return zobristHash ^ puzzle.zobristKey(i, fromOffset) ^ puzzle.zobristKey(i, targetOffset);
+    }
+    
+    /* Index piece di tiap cell (-1 kalau kosong), dipake buat board besar yang id-nya ga muat di satu char */
+    public int[][] getIndexGrid() {
+        int rows = puzzle.getRows();
+        int cols = puzzle.getCols();
+        int[][] cells = new int[rows][cols];
         for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                visibleGrid[i][j] = grid[i + BORDER_SIZE][j + BORDER_SIZE];
+            Arrays.fill(cells[i], -1);
+        }
+        
+        for (int i = 0; i < offsets.length; i++) {
+            boolean isHorizontal = puzzle.isHorizontal(i);
+            int lane = puzzle.getLane(i);
+            
+            for (int j = 0; j < puzzle.getLength(i); j++) {
+                int r = isHorizontal ? lane : offsets[i] + j;
+                int c = isHorizontal ? offsets[i] + j : lane;
+                
+                if (r >= 0 && r < rows && c >= 0 && c < cols && !(r == puzzle.getExitRow() && c == puzzle.getExitCol())) {
+                    cells[r][c] = i;
+                }
             }
         }
-        return visibleGrid;
+        
+        return cells;
     }
     
+    /* Label cell buat ditampilin: nama piece, "K" buat exit di dalam board, atau "." */
+    public String getCellLabel(int[][] indexGrid, int row, int col) {
+        if (indexGrid[row][col] >= 0) {
+            return puzzle.getName(indexGrid[row][col]);
+        }
+        return row == puzzle.getExitRow() && col == puzzle.getExitCol() ? "K" : ".";
+    }
+    
+    /* Grid char baru dibangun dari offset kalau memang diminta (print/GUI) */
+    public char[][] getGrid() {
+        int[][] cells = getIndexGrid();
+        char[][] grid = new char[cells.length][];
+        
+        for (int r = 0; r < cells.length; r++) {
+            grid[r] = new char[cells[r].length];
+            for (int c = 0; c < cells[r].length; c++) {
+                grid[r][c] = cells[r][c] >= 0 ? puzzle.getId(cells[r][c]) : getCellLabel(cells, r, c).charAt(0);
+            }
+        }
+        
+        return grid;
+    }
+    
+    /* Kalau ada nama piece yang lebih dari satu char, tiap cell dipisah spasi dan di-pad */
     @Override
     public String toString() {
+        int width = puzzle.getMaxNameLength();
+        int[][] cells = getIndexGrid();
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                sb.append(grid[i + BORDER_SIZE][j + BORDER_SIZE]);
+        for (int r = 0; r < cells.length; r++) {
+            for (int c = 0; c < cells[r].length; c++) {
+                String label = getCellLabel(cells, r, c);
+                if (width > 1) {
+                    if (c > 0) {
+                        sb.append(' ');
+                    }
+                    sb.append(label);
+                    for (int k = label.length(); k < width; k++) {
+                        sb.append(' ');
+                    }
+                } else {
+                    sb.append(label);
+                }
             }
-            if (i < rows - 1) {
+            if (r < cells.length - 1) {
                 sb.append("\n");
             }
         }
@@ -407,13 +632,13 @@ public class Board {
         if (obj == null || getClass() != obj.getClass()) return false;
         
         Board other = (Board) obj;
-        if (rows != other.rows || cols != other.cols) return false;
+        if (getRows() != other.getRows() || getCols() != other.getCols()) return false;
+        if (zobristHash != other.zobristHash || offsets.length != other.offsets.length) return false;
         
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (grid[i + BORDER_SIZE][j + BORDER_SIZE] != other.grid[i + BORDER_SIZE][j + BORDER_SIZE]) {
-                    return false;
-                }
+        for (int i = 0; i < offsets.length; i++) {
+            if (!puzzle.getName(i).equals(other.puzzle.getName(i)) ||
+                puzzle.getLane(i) != other.puzzle.getLane(i) || offsets[i] != other.offsets[i]) {
+                return false;
             }
         }
         
@@ -422,15 +647,6 @@ public class Board {
     
     @Override
     public int hashCode() {
-        int result = rows;
-        result = 31 * result + cols;
-        
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result = 31 * result + grid[i + BORDER_SIZE][j + BORDER_SIZE];
-            }
-        }
-        
-        return result;
+        return (int) (zobristHash ^ (zobristHash >>> 32));
     }
-}
\ No newline at end of file
+}
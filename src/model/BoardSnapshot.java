@@ -0,0 +1,133 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/* State board yang immutable, aman di-share antar thread tanpa lock (semua field final, array-nya ga pernah diubah).
+   Successor dibikin copy-on-write: cuma array offset (satu byte per piece) yang dicopy, puzzle-nya di-share. */
+public final class BoardSnapshot {
+    private final Puzzle puzzle;
+    private final byte[] offsets;
+    private final long zobristHash;
+    
+    /* Array offsets jadi milik snapshot, caller ga boleh ngubah lagi */
+    BoardSnapshot(Puzzle puzzle, byte[] offsets, long zobristHash) {
+        this.puzzle = puzzle;
+        this.offsets = offsets;
+        this.zobristHash = zobristHash;
+    }
+    
+    public static BoardSnapshot of(Board board) {
+        return board.snapshot();
+    }
+    
+    /* Snapshot tiap langkah dari initial board sampai move terakhir (tiap langkah cuma copy array offset) */
+    public static List<BoardSnapshot> replay(Board initialBoard, List<Move> moves) {
+        List<BoardSnapshot> snapshots = new ArrayList<>(moves.size() + 1);
+        BoardSnapshot snapshot = initialBoard.snapshot();
+        snapshots.add(snapshot);
+        
+        for (Move move : moves) {
+            snapshot = snapshot.apply(move);
+            snapshots.add(snapshot);
+        }
+        
+        return snapshots;
+    }
+    
+    /* Snapshot baru hasil move, move harus valid buat state ini (dari getNextMoves board-nya) */
+    public BoardSnapshot apply(Move move) {
+        int i = move.getPieceIndex();
+        boolean isHorizontal = puzzle.isHorizontal(i);
+        int target = isHorizontal ? move.getTargetCol() : move.getTargetRow();
+        
+        byte[] next = offsets.clone();
+        next[i] = (byte) target;
+        long hash = zobristHash ^ puzzle.zobristKey(i, offsets[i]) ^ puzzle.zobristKey(i, target);
+        
+        return new BoardSnapshot(puzzle, next, hash);
+    }
+    
+    /* Board mutable baru dari snapshot ini, buat di-search/diedit */
+    public Board toBoard() {
+        return new Board(puzzle, offsets.clone());
+    }
+    
+    public Puzzle getPuzzle() {
+        return puzzle;
+    }
+    
+    public int getRows() {
+        return puzzle.getRows();
+    }
+    
+    public int getCols() {
+        return puzzle.getCols();
+    }
+    
+    public int getExitRow() {
+        return puzzle.getExitRow();
+    }
+    
+    public int getExitCol() {
+        return puzzle.getExitCol();
+    }
+    
+    public int getPieceCount() {
+        return offsets.length;
+    }
+    
+    public int getPieceRow(int pieceIndex) {
+        return puzzle.isVertical(pieceIndex) ? offsets[pieceIndex] : puzzle.getLane(pieceIndex);
+    }
+    
+    public int getPieceCol(int pieceIndex) {
+        return puzzle.isVertical(pieceIndex) ? puzzle.getLane(pieceIndex) : offsets[pieceIndex];
+    }
+    
+    /* Piece sebagai object baru, ubah object-nya ga ngaruh ke snapshot */
+    public Piece getPiece(int pieceIndex) {
+        return new Piece(
+            puzzle.getName(pieceIndex),
+            getPieceRow(pieceIndex),
+            getPieceCol(pieceIndex),
+            puzzle.getLength(pieceIndex),
+            puzzle.isVertical(pieceIndex),
+            puzzle.isPrimary(pieceIndex)
+        );
+    }
+    
+    public List<Piece> getPieces() {
+        List<Piece> pieces = new ArrayList<>(offsets.length);
+        for (int i = 0; i < offsets.length; i++) {
+            pieces.add(getPiece(i));
+        }
+        return pieces;
+    }
+    
+    public long getZobristHash() {
+        return zobristHash;
+    }
+    
+    @Override
+    public String toString() {
+        return toBoard().toString();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BoardSnapshot)) return false;
+        
+        BoardSnapshot other = (BoardSnapshot) obj;
+        if (zobristHash != other.zobristHash) return false;
+        if (puzzle == other.puzzle) return Arrays.equals(offsets, other.offsets);
+        return toBoard().equals(other.toBoard());
+    }
+    
+    @Override
+    public int hashCode() {
+        return (int) (zobristHash ^ (zobristHash >>> 32));
+    }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* Transformasi board (transpose dan/atau mirror kolom) biar exit-nya selalu di kanan.
+   Solver cukup jalan di board hasil normalize() dengan kernel exit-kanan, terus move solusinya
+   dipetain balik ke orientasi asli pake toOriginal(). Index piece ga berubah. */
+public final class ExitTransform {
+    private final int rows;             // ukuran board asli
+    private final int cols;
+    private final boolean transpose;    // tuker row <-> col (exit atas/bawah)
+    private final boolean mirror;       // balik kolom setelah transpose (exit kiri/atas)
+    
+    private ExitTransform(int rows, int cols, boolean transpose, boolean mirror) {
+        this.rows = rows;
+        this.cols = cols;
+        this.transpose = transpose;
+        this.mirror = mirror;
+    }
+    
+    /* Transformasi yang mindahin exit board ini ke kanan (identitas kalau udah di kanan atau exit-nya di dalam board) */
+    public static ExitTransform forBoard(Board board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int exitRow = board.getExitRow();
+        int exitCol = board.getExitCol();
+        
+        if (exitCol == -1 && exitRow >= 0 && exitRow < rows) {
+            return new ExitTransform(rows, cols, false, true);
+        }
+        if (exitRow == rows && exitCol >= 0 && exitCol < cols) {
+            return new ExitTransform(rows, cols, true, false);
+        }
+        if (exitRow == -1 && exitCol >= 0 && exitCol < cols) {
+            return new ExitTransform(rows, cols, true, true);
+        }
+        return new ExitTransform(rows, cols, false, false);
+    }
+    
+    public boolean isIdentity() {
+        return !transpose && !mirror;
+    }
+    
+    /* Cell asli (row, col) -> cell di board normal */
+    private int mapRow(int row, int col) {
+        return transpose ? col : row;
+    }
+    
+    private int mapCol(int row, int col) {
+        int c = transpose ? row : col;
+        return mirror ? (transpose ? rows : cols) - 1 - c : c;
+    }
+    
+    /* Cell di board normal -> cell asli */
+    private int unmapRow(int row, int col) {
+        int c = mirror ? (transpose ? rows : cols) - 1 - col : col;
+        return transpose ? c : row;
+    }
+    
+    private int unmapCol(int row, int col) {
+        int c = mirror ? (transpose ? rows : cols) - 1 - col : col;
+        return transpose ? row : c;
+    }
+    
+    /* Board baru dengan exit di kanan, piece ditambahin dengan urutan index yang sama */
+    public Board normalize(Board board) {
+        if (isIdentity()) {
+            return board;
+        }
+        
+        Board normal = new Board(transpose ? cols : rows, transpose ? rows : cols);
+        int exitRow = board.getExitRow();
+        int exitCol = board.getExitCol();
+        normal.setExit(mapRow(exitRow, exitCol), mapCol(exitRow, exitCol));
+        
+        for (Piece piece : board.getPieces()) {
+            int length = piece.getLength();
+            int endRow = piece.getRow() + (piece.isVertical() ? length - 1 : 0);
+            int endCol = piece.getCol() + (piece.isVertical() ? 0 : length - 1);
+            
+            int row = Math.min(mapRow(piece.getRow(), piece.getCol()), mapRow(endRow, endCol));
+            int col = Math.min(mapCol(piece.getRow(), piece.getCol()), mapCol(endRow, endCol));
+            boolean isVertical = transpose != piece.isVertical();
+            
+            normal.addPiece(new Piece(piece.getName(), row, col, length, isVertical, piece.isPrimary()));
+        }
+        
+        normal.prepareMoveTables();
+        return normal;
+    }
+    
+    /* Move di board normal (puzzle hasil normalize()) -> move yang sama di board asli */
+    public Move toOriginal(Puzzle normalPuzzle, Move move) {
+        if (isIdentity()) {
+            return move;
+        }
+        
+        int i = move.getPieceIndex();
+        int length = normalPuzzle.getLength(i);
+        int dr = normalPuzzle.isVertical(i) ? length - 1 : 0;
+        int dc = normalPuzzle.isVertical(i) ? 0 : length - 1;
+        
+        int fromRow = move.getFromRow();
+        int fromCol = move.getFromCol();
+        int targetRow = move.getTargetRow();
+        int targetCol = move.getTargetCol();
+        
+        return new Move(i,
+            Math.min(unmapRow(fromRow, fromCol), unmapRow(fromRow + dr, fromCol + dc)),
+            Math.min(unmapCol(fromRow, fromCol), unmapCol(fromRow + dr, fromCol + dc)),
+            Math.min(unmapRow(targetRow, targetCol), unmapRow(targetRow + dr, targetCol + dc)),
+            Math.min(unmapCol(targetRow, targetCol), unmapCol(targetRow + dr, targetCol + dc)));
+    }
+    
+    public List<Move> toOriginal(Puzzle normalPuzzle, List<Move> moves) {
+        List<Move> original = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            original.add(toOriginal(normalPuzzle, move));
+        }
+        return original;
+    }
+}
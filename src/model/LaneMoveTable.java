@@ -0,0 +1,50 @@
+package model;
+
+/* Tabel batas geser buat piece dengan panjang tertentu di lane dengan panjang tertentu.
+   Index-nya (offset piece, pola cell lain yang nutup lane) -> offset minimum dan maksimum. */
+public final class LaneMoveTable {
+    public static final int MAX_LANE_LENGTH = 12;    // 12 * 2^12 entry, di atas ini pake scan bit biasa
+    
+    private final int laneLength;
+    private final int pieceLength;
+    private final char[] ranges;    // (maxStart << 8) | minStart
+    
+    public LaneMoveTable(int laneLength, int pieceLength) {
+        if (laneLength > MAX_LANE_LENGTH || pieceLength > laneLength) {
+            throw new IllegalArgumentException("Lane length " + laneLength + " is not supported for move tables.");
+        }
+        
+        this.laneLength = laneLength;
+        this.pieceLength = pieceLength;
+        this.ranges = new char[(laneLength - pieceLength + 1) << laneLength];
+        
+        for (int start = 0; start + pieceLength <= laneLength; start++) {
+            for (int blockers = 0; blockers < (1 << laneLength); blockers++) {
+                int minStart = start;
+                while (minStart > 0 && (blockers & (1 << (minStart - 1))) == 0) {
+                    minStart--;
+                }
+                
+                int maxStart = start;
+                while (maxStart + pieceLength < laneLength && (blockers & (1 << (maxStart + pieceLength))) == 0) {
+                    maxStart++;
+                }
+                
+                ranges[(start << laneLength) | blockers] = (char) ((maxStart << 8) | minStart);
+            }
+        }
+    }
+    
+    /* Batas geser (maxStart << 8) | minStart buat piece di offset start, blockers ga boleh berisi cell piece itu */
+    public int lookup(int start, long blockers) {
+        return ranges[(start << laneLength) | (int) blockers];
+    }
+    
+    public int getLaneLength() {
+        return laneLength;
+    }
+    
+    public int getPieceLength() {
+        return pieceLength;
+    }
+}
@@ -1,7 +1,10 @@
 package model;
 
 public class Piece {
+    public static final char MULTI_CHAR_ID = '#';   // id char buat piece yang namanya lebih dari satu karakter
+    
     private char id;
+    private String name;
     private int rowStart;
     private int colStart;
     private int length;
@@ -10,7 +13,13 @@ public class Piece {
     
     /* Konstruktor Piece */
     public Piece(char id, int rowStart, int colStart, int length, boolean isVertical, boolean isPrimary) {
-        this.id = id;
+        this(String.valueOf(id), rowStart, colStart, length, isVertical, isPrimary);
+    }
+    
+    /* Konstruktor Piece dengan nama bebas (multi-char atau angka, misal "12" atau "AB") */
+    public Piece(String name, int rowStart, int colStart, int length, boolean isVertical, boolean isPrimary) {
+        this.id = name.length() == 1 ? name.charAt(0) : MULTI_CHAR_ID;
+        this.name = name;
         this.rowStart = rowStart;
         this.colStart = colStart;
         this.length = length;
@@ -21,6 +30,7 @@ public class Piece {
     /* CCtor */
     public Piece(Piece other) {
         this.id = other.id;
+        this.name = other.name;
         this.rowStart = other.rowStart;
         this.colStart = other.colStart;
         this.length = other.length;
@@ -53,6 +63,11 @@ public class Piece {
     
     public void setId(char id) {
         this.id = id;
+        this.name = String.valueOf(id);
+    }
+    
+    public String getName() {
+        return name;
     }
     
     public int getRowStart() {
@@ -126,7 +141,7 @@ public class Piece {
     @Override
     public String toString() {
         String orientation = isVertical ? "vertical" : "horizontal";
-        return "Piece " + id + " at (" + rowStart + "," + colStart + "), " + 
+        return "Piece " + name + " at (" + rowStart + "," + colStart + "), " + 
                "length: " + length + ", " + orientation + 
                (isPrimary ? " [PRIMARY]" : "");
     }
@@ -0,0 +1,257 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/* Deskripsi puzzle yang immutable: ukuran board, posisi exit, dan geometri tiap piece.
+   Satu instance di-share sama semua state Board dalam satu pencarian. */
+public final class Puzzle {
+    private final int rows;
+    private final int cols;
+    private final int exitRow;
+    private final int exitCol;
+    
+    private final char[] ids;
+    private final String[] names;           // nama lengkap piece, ids cuma char buat ditampilin
+    private final int[] lengths;
+    private final boolean[] vertical;
+    private final boolean[] primary;
+    private final int[] lanes;              // row buat piece horizontal, col buat piece vertikal
+    private final long[][] zobristKeys;     // key random per (piece, offset)
+    private final int primaryIndex;         // -1 kalau belum ada primary
+    private final LaneMoveTable[] moveTables;   // null kalau belum di-precompute (lihat withMoveTables)
+    private final int[][] rowPieces;        // index piece horizontal di tiap row
+    private final int[][] colPieces;        // index piece vertikal di tiap col
+    
+    private static final long ZOBRIST_SEED = 0x5DEECE66DL;
+    
+    /* Puzzle kosong tanpa exit dan piece */
+    public Puzzle(int rows, int cols) {
+        this(rows, cols, -1, -1, new char[0], new String[0], new int[0], new boolean[0], new boolean[0], new int[0], new long[0][], null);
+    }
+    
+    private Puzzle(int rows, int cols, int exitRow, int exitCol, char[] ids, String[] names, int[] lengths,
+                   boolean[] vertical, boolean[] primary, int[] lanes, long[][] zobristKeys,
+                   LaneMoveTable[] moveTables) {
+        this.rows = rows;
+        this.cols = cols;
+        this.exitRow = exitRow;
+        this.exitCol = exitCol;
+        this.ids = ids;
+        this.names = names;
+        this.lengths = lengths;
+        this.vertical = vertical;
+        this.primary = primary;
+        this.lanes = lanes;
+        this.zobristKeys = zobristKeys;
+        this.moveTables = moveTables;
+        
+        int primaryIndex = -1;
+        for (int i = 0; i < primary.length; i++) {
+            if (primary[i]) {
+                primaryIndex = i;
+                break;
+            }
+        }
+        this.primaryIndex = primaryIndex;
+        this.rowPieces = groupByLane(false, rows);
+        this.colPieces = groupByLane(true, cols);
+    }
+    
+    /* Index piece dengan orientasi ini, dikelompokin per lane */
+    private int[][] groupByLane(boolean isVertical, int laneCount) {
+        int[] counts = new int[laneCount];
+        for (int i = 0; i < ids.length; i++) {
+            if (vertical[i] == isVertical && lanes[i] >= 0 && lanes[i] < laneCount) {
+                counts[lanes[i]]++;
+            }
+        }
+        
+        int[][] groups = new int[laneCount][];
+        for (int lane = 0; lane < laneCount; lane++) {
+            groups[lane] = new int[counts[lane]];
+            counts[lane] = 0;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (vertical[i] == isVertical && lanes[i] >= 0 && lanes[i] < laneCount) {
+                groups[lanes[i]][counts[lanes[i]]++] = i;
+            }
+        }
+        
+        return groups;
+    }
+    
+    /* Copy puzzle ini dengan exit di (row, col) */
+    public Puzzle withExit(int row, int col) {
+        return new Puzzle(rows, cols, row, col, ids, names, lengths, vertical, primary, lanes, zobristKeys, null);
+    }
+    
+    /* Copy puzzle ini dengan satu piece tambahan di akhir (posisi awal piece ga disimpan di sini) */
+    public Puzzle withPiece(Piece piece) {
+        int n = ids.length;
+        
+        char[] newIds = Arrays.copyOf(ids, n + 1);
+        String[] newNames = Arrays.copyOf(names, n + 1);
+        int[] newLengths = Arrays.copyOf(lengths, n + 1);
+        boolean[] newVertical = Arrays.copyOf(vertical, n + 1);
+        boolean[] newPrimary = Arrays.copyOf(primary, n + 1);
+        int[] newLanes = Arrays.copyOf(lanes, n + 1);
+        long[][] newKeys = Arrays.copyOf(zobristKeys, n + 1);
+        
+        newIds[n] = piece.getId();
+        newNames[n] = piece.getName();
+        newLengths[n] = piece.getLength();
+        newVertical[n] = piece.isVertical();
+        newPrimary[n] = piece.isPrimary();
+        newLanes[n] = piece.isVertical() ? piece.getCol() : piece.getRow();
+        newKeys[n] = createZobristKeys(n);
+        
+        return new Puzzle(rows, cols, exitRow, exitCol, newIds, newNames, newLengths, newVertical, newPrimary, newLanes, newKeys, null);
+    }
+    
+    /* Copy puzzle ini plus tabel move per piece, dipanggil sekali setelah semua piece masuk.
+       Piece dengan panjang lane dan panjang piece yang sama share satu tabel. */
+    public Puzzle withMoveTables() {
+        LaneMoveTable[] tables = new LaneMoveTable[ids.length];
+        
+        for (int i = 0; i < ids.length; i++) {
+            int laneLength = getLaneLength(i);
+            if (laneLength > LaneMoveTable.MAX_LANE_LENGTH || lengths[i] > laneLength) {
+                continue;
+            }
+            
+            for (int j = 0; j < i && tables[i] == null; j++) {
+                if (tables[j] != null && getLaneLength(j) == laneLength && lengths[j] == lengths[i]) {
+                    tables[i] = tables[j];
+                }
+            }
+            if (tables[i] == null) {
+                tables[i] = new LaneMoveTable(laneLength, lengths[i]);
+            }
+        }
+        
+        return new Puzzle(rows, cols, exitRow, exitCol, ids, names, lengths, vertical, primary, lanes, zobristKeys, tables);
+    }
+    
+    /* Key Zobrist buat satu piece, deterministik per index biar hash-nya stabil */
+    private long[] createZobristKeys(int pieceIndex) {
+        // offset bisa -1 s.d. max(rows, cols) kalau primary masuk ke cell exit
+        long[] keys = new long[Math.max(rows, cols) + 2];
+        Random random = new Random(ZOBRIST_SEED + pieceIndex);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+    
+    public long zobristKey(int pieceIndex, int offset) {
+        return zobristKeys[pieceIndex][offset + 1];
+    }
+    
+    /* Jumlah bit buat satu offset piece (cukup buat nampung max(rows, cols)) */
+    public int bitsPerOffset() {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(rows, cols));
+    }
+    
+    /* Jumlah long yang dipake buat encode satu state */
+    public int getStateWords() {
+        int perWord = 64 / bitsPerOffset();
+        return (ids.length + perWord - 1) / perWord;
+    }
+    
+    /* Index piece dengan nama tertentu, -1 kalau ga ada */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public boolean hasInteriorExit() {
+        return exitRow >= 0 && exitRow < rows && exitCol >= 0 && exitCol < cols;
+    }
+    
+    public int getRows() {
+        return rows;
+    }
+    
+    public int getCols() {
+        return cols;
+    }
+    
+    public int getExitRow() {
+        return exitRow;
+    }
+    
+    public int getExitCol() {
+        return exitCol;
+    }
+    
+    public int getPieceCount() {
+        return ids.length;
+    }
+    
+    public char getId(int pieceIndex) {
+        return ids[pieceIndex];
+    }
+    
+    public String getName(int pieceIndex) {
+        return names[pieceIndex];
+    }
+    
+    /* Panjang nama piece paling panjang, 1 kalau semua id-nya satu huruf */
+    public int getMaxNameLength() {
+        int max = 1;
+        for (String name : names) {
+            max = Math.max(max, name.length());
+        }
+        return max;
+    }
+    
+    public int getLength(int pieceIndex) {
+        return lengths[pieceIndex];
+    }
+    
+    public boolean isVertical(int pieceIndex) {
+        return vertical[pieceIndex];
+    }
+    
+    public boolean isHorizontal(int pieceIndex) {
+        return !vertical[pieceIndex];
+    }
+    
+    public boolean isPrimary(int pieceIndex) {
+        return primary[pieceIndex];
+    }
+    
+    /* Index primary piece (di-cache, ga perlu scan lagi), -1 kalau ga ada */
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+    
+    /* Tabel move piece ini, null kalau belum di-precompute atau lane-nya kepanjangan */
+    public LaneMoveTable getMoveTable(int pieceIndex) {
+        return moveTables == null ? null : moveTables[pieceIndex];
+    }
+    
+    public int getLane(int pieceIndex) {
+        return lanes[pieceIndex];
+    }
+    
+    /* Piece horizontal yang lane-nya di row ini */
+    public int[] getPiecesInRow(int row) {
+        return rowPieces[row];
+    }
+    
+    /* Piece vertikal yang lane-nya di col ini */
+    public int[] getPiecesInCol(int col) {
+        return colPieces[col];
+    }
+    
+    /* Panjang lane piece: jumlah kolom kalau horizontal, jumlah baris kalau vertikal */
+    public int getLaneLength(int pieceIndex) {
+        return vertical[pieceIndex] ? rows : cols;
+    }
+}
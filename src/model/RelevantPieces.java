@@ -0,0 +1,181 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/* Analisis statis piece mana aja yang bisa ngaruh ke primary, langsung atau lewat piece lain.
+   Piece yang kejepit permanen (frozen) jadi tembok. Piece lain yang area gesernya ga pernah
+   nyentuh area geser piece relevan dibuang sebelum search, terus dimasukin lagi pas output
+   (posisinya ga pernah berubah, jadi solusi optimalnya tetap sama). */
+public final class RelevantPieces {
+    private final int[] keptIndices;    // index asli tiap piece yang disimpan, urut naik
+    private final int pieceCount;
+    
+    private RelevantPieces(int[] keptIndices, int pieceCount) {
+        this.keptIndices = keptIndices;
+        this.pieceCount = pieceCount;
+    }
+    
+    public static RelevantPieces analyze(Board board) {
+        Puzzle puzzle = board.getPuzzle();
+        int n = puzzle.getPieceCount();
+        int primary = puzzle.getPrimaryIndex();
+        
+        if (primary == -1) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return new RelevantPieces(all, n);
+        }
+        
+        int[][] cells = board.getIndexGrid();
+        boolean[] frozen = findFrozenPieces(board, cells);
+        int[] low = new int[n];
+        int[] high = new int[n];
+        
+        // Batas geser tiap piece kalau cuma piece frozen yang dianggap halangan
+        List<List<Integer>> sweptBy = new ArrayList<>();
+        for (int k = 0; k < board.getRows() * board.getCols(); k++) {
+            sweptBy.add(new ArrayList<>());
+        }
+        
+        for (int i = 0; i < n; i++) {
+            int offset = board.getPieceOffset(i);
+            low[i] = offset;
+            high[i] = offset;
+            if (frozen[i]) {
+                continue;
+            }
+            
+            while (isFreeFor(board, cells, frozen, i, low[i] - 1)) {
+                low[i]--;
+            }
+            while (isFreeFor(board, cells, frozen, i, high[i] + puzzle.getLength(i))) {
+                high[i]++;
+            }
+            
+            for (int along = Math.max(low[i], 0); along < Math.min(high[i] + puzzle.getLength(i), puzzle.getLaneLength(i)); along++) {
+                sweptBy.get(cellIndex(board, i, along)).add(i);
+            }
+        }
+        
+        // Closure dari primary: piece relevan kalau area gesernya nyentuh area geser piece relevan
+        boolean[] relevant = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        relevant[primary] = true;
+        queue[tail++] = primary;
+        
+        while (head < tail) {
+            int current = queue[head++];
+            for (int along = Math.max(low[current], 0); along < Math.min(high[current] + puzzle.getLength(current), puzzle.getLaneLength(current)); along++) {
+                for (int other : sweptBy.get(cellIndex(board, current, along))) {
+                    if (!relevant[other]) {
+                        relevant[other] = true;
+                        queue[tail++] = other;
+                    }
+                }
+            }
+        }
+        
+        int[] kept = new int[n];
+        int keptCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (frozen[i] || relevant[i]) {
+                kept[keptCount++] = i;
+            }
+        }
+        
+        return new RelevantPieces(Arrays.copyOf(kept, keptCount), n);
+    }
+    
+    /* Greatest fixed point: piece yang dua ujungnya mentok tepi board atau piece frozen lain ga akan pernah bisa gerak */
+    private static boolean[] findFrozenPieces(Board board, int[][] cells) {
+        Puzzle puzzle = board.getPuzzle();
+        int n = puzzle.getPieceCount();
+        boolean[] frozen = new boolean[n];
+        Arrays.fill(frozen, true);
+        frozen[puzzle.getPrimaryIndex()] = false;
+        
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < n; i++) {
+                if (!frozen[i]) {
+                    continue;
+                }
+                
+                int offset = board.getPieceOffset(i);
+                if (isFreeFor(board, cells, frozen, i, offset - 1)
+                        || isFreeFor(board, cells, frozen, i, offset + puzzle.getLength(i))) {
+                    frozen[i] = false;
+                    changed = true;
+                }
+            }
+        }
+        
+        return frozen;
+    }
+    
+    /* Cell ke-`along` di lane piece ini ada di dalam board dan ga ditempati piece frozen */
+    private static boolean isFreeFor(Board board, int[][] cells, boolean[] frozen, int pieceIndex, int along) {
+        if (along < 0 || along >= board.getPuzzle().getLaneLength(pieceIndex)) {
+            return false;
+        }
+        
+        int cell = cellIndex(board, pieceIndex, along);
+        int occupant = cells[cell / board.getCols()][cell % board.getCols()];
+        return occupant == -1 || !frozen[occupant];
+    }
+    
+    private static int cellIndex(Board board, int pieceIndex, int along) {
+        Puzzle puzzle = board.getPuzzle();
+        int lane = puzzle.getLane(pieceIndex);
+        return puzzle.isHorizontal(pieceIndex) ? lane * board.getCols() + along : along * board.getCols() + lane;
+    }
+    
+    public boolean isIdentity() {
+        return keptIndices.length == pieceCount;
+    }
+    
+    public int getRemovedCount() {
+        return pieceCount - keptIndices.length;
+    }
+    
+    /* Board baru yang cuma berisi piece relevan dan frozen, urutan index-nya tetap */
+    public Board reduce(Board board) {
+        if (isIdentity()) {
+            return board;
+        }
+        
+        Board reduced = new Board(board.getRows(), board.getCols());
+        reduced.setExit(board.getExitRow(), board.getExitCol());
+        for (int index : keptIndices) {
+            reduced.addPiece(board.getPiece(index));
+        }
+        
+        reduced.prepareMoveTables();
+        return reduced;
+    }
+    
+    /* Move di board hasil reduce() -> move yang sama di board asli (cuma index piece-nya yang dipetain) */
+    public Move toOriginal(Move move) {
+        if (isIdentity()) {
+            return move;
+        }
+        
+        return new Move(keptIndices[move.getPieceIndex()],
+            move.getFromRow(), move.getFromCol(), move.getTargetRow(), move.getTargetCol());
+    }
+    
+    public List<Move> toOriginal(List<Move> moves) {
+        List<Move> original = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            original.add(toOriginal(move));
+        }
+        return original;
+    }
+}
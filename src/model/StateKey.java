@@ -0,0 +1,39 @@
+package model;
+
+import java.util.Arrays;
+
+/* Key state board yang compact: offset tiap piece di lane-nya, di-pack ke long[] */
+public final class StateKey {
+    private final long[] words;
+    private final int hash;
+    
+    /* Hash-nya Zobrist dari Board, jadi ga perlu scan words lagi.
+       Semua key harus dibikin dengan hash yang sama buat words yang sama, soalnya equals ngecek hash duluan. */
+    public StateKey(long[] words, long hash) {
+        this.words = words;
+        this.hash = (int) (hash ^ (hash >>> 32));
+    }
+    
+    public long[] getWords() {
+        return words;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof StateKey)) return false;
+        
+        StateKey other = (StateKey) obj;
+        return hash == other.hash && Arrays.equals(words, other.words);
+    }
+    
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    
+    @Override
+    public String toString() {
+        return Arrays.toString(words);
+    }
+}
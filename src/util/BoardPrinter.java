@@ -11,27 +11,49 @@ public class BoardPrinter {
     /* Print board awal */
     public static void printInitialBoard(Board board) {
         System.out.println("\nInitial Board:");
-        printBoardWithBorders(board, ' ');
+        printBoardWithBorders(board, "");
     }
 
     public static void printBoardAfterMove(Board board, int moveCount, char pieceId, String direction) {
-        System.out.println("\nMove " + moveCount + ": " + pieceId + " " + direction);
-        printBoardWithBorders(board, pieceId);
+        printBoardAfterMove(board, moveCount, String.valueOf(pieceId), direction);
+    }
+    
+    public static void printBoardAfterMove(Board board, int moveCount, String pieceName, String direction) {
+        System.out.println("\nMove " + moveCount + ": " + pieceName + " " + direction);
+        printBoardWithBorders(board, pieceName);
     }
     
     public static void printBoardAfterMove(Board board, int moveCount, char pieceId, String direction, int distance) {
+        printBoardAfterMove(board, moveCount, String.valueOf(pieceId), direction, distance);
+    }
+    
+    public static void printBoardAfterMove(Board board, int moveCount, String pieceName, String direction, int distance) {
         if (distance > 1) {
-            System.out.println("\nMove " + moveCount + ": " + pieceId + " " + direction + " " + distance + " cells");
+            System.out.println("\nMove " + moveCount + ": " + pieceName + " " + direction + " " + distance + " cells");
         } else {
-            System.out.println("\nMove " + moveCount + ": " + pieceId + " " + direction);
+            System.out.println("\nMove " + moveCount + ": " + pieceName + " " + direction);
+        }
+        printBoardWithBorders(board, pieceName);
+    }
+    
+    /* Satu cell selebar width; kalau nama piece lebih dari satu char, tiap cell diawali spasi */
+    private static String pad(String text, int width) {
+        if (width == 1) {
+            return text;
+        }
+        
+        StringBuilder sb = new StringBuilder(" ").append(text);
+        while (sb.length() < width + 1) {
+            sb.append(' ');
         }
-        printBoardWithBorders(board, pieceId);
+        return sb.toString();
     }
       
-    private static void printBoardWithBorders(Board board, char movedPiece) {
+    private static void printBoardWithBorders(Board board, String movedPiece) {
         int rows = board.getRows();
         int cols = board.getCols();
-        char[][] grid = board.getGrid();
+        int[][] cells = board.getIndexGrid();
+        int width = board.getPuzzle().getMaxNameLength();
         int exitRow = board.getExitRow();
         int exitCol = board.getExitCol();
         
@@ -40,12 +62,14 @@ public class BoardPrinter {
         boolean needLeftBorder = (exitCol == -1);
         boolean needRightBorder = (exitCol == cols);
         
+        String border = pad("-", width).replace(' ', '-');
+        
         System.out.print("+");
         for (int c = 0; c < cols; c++) {
             if (needTopBorder && c == exitCol) {
-                System.out.print(GREEN + "K" + RESET);
+                System.out.print(GREEN + pad("K", width) + RESET);
             } else {
-                System.out.print("-");
+                System.out.print(border);
             }
         }
         System.out.println("+");
@@ -58,12 +82,13 @@ public class BoardPrinter {
             }
             
             for (int c = 0; c < cols; c++) {
-                char cell = grid[r][c];
+                String cell = pad(board.getCellLabel(cells, r, c), width);
+                int pieceIndex = cells[r][c];
                 
-                if (cell == 'P') {
+                if (pieceIndex >= 0 && board.getPuzzle().isPrimary(pieceIndex)) {
                     // Primary car warna merah
                     System.out.print(RED + cell + RESET);
-                } else if (cell != '.' && cell == movedPiece) {
+                } else if (pieceIndex >= 0 && board.getPuzzle().getName(pieceIndex).equals(movedPiece)) {
                     // Mobil yg gerak warna kuning
                     System.out.print(YELLOW + cell + RESET);
                 } else {
@@ -83,11 +108,11 @@ public class BoardPrinter {
         System.out.print("+");
         for (int c = 0; c < cols; c++) {
             if (needBottomBorder && c == exitCol) {
-                System.out.print(GREEN + "K" + RESET);
+                System.out.print(GREEN + pad("K", width) + RESET);
             } else {
-                System.out.print("-");
+                System.out.print(border);
             }
         }
         System.out.println("+");
     }
-}
\ No newline at end of file
+}
@@ -4,8 +4,9 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import model.Board;
 import model.Piece;
 
@@ -34,6 +35,15 @@ public class FileParser {
                 throw new IllegalArgumentException("Invalid board dimensions. Expected numbers, got: " + dimensionLine);
             }
             
+            // Format extended: "rows cols tokens", tiap cell dipisah spasi jadi id piece bisa multi-char/angka
+            boolean tokenMode = false;
+            if (dimensions.length > 2) {
+                if (!dimensions[2].equalsIgnoreCase("tokens")) {
+                    throw new IllegalArgumentException("Unknown board format '" + dimensions[2] + "'. Expected: rows cols [tokens]");
+                }
+                tokenMode = true;
+            }
+            
             if (rows <= 0 || cols <= 0) {
                 throw new IllegalArgumentException("Board dimensions must be positive. Got: " + rows + "x" + cols);
             }
@@ -42,6 +52,10 @@ public class FileParser {
                 throw new IllegalArgumentException("Board is too small. Minimum size is 2x2.");
             }
             
+            if (rows > Board.MAX_SIZE || cols > Board.MAX_SIZE) {
+                throw new IllegalArgumentException("Board is too large. Maximum size is " + Board.MAX_SIZE + "x" + Board.MAX_SIZE + ".");
+            }
+            
             String numPiecesLine = reader.readLine();
             if (numPiecesLine == null || numPiecesLine.trim().isEmpty()) {
                 throw new IllegalArgumentException("Missing number of pieces.");
@@ -65,11 +79,11 @@ public class FileParser {
             
             Board board = new Board(rows, cols);
             
-            ArrayList<String> allLines = new ArrayList<>();
+            ArrayList<String[]> allLines = new ArrayList<>();
             String line;
             while ((line = reader.readLine()) != null) {
                 if (!line.trim().isEmpty()) {
-                    allLines.add(line);
+                    allLines.add(tokenize(line, tokenMode));
                 }
             }
             
@@ -80,21 +94,21 @@ public class FileParser {
             int exitRow = -1;
             int exitCol = -1;
             boolean exitFound = false;
-            char[][] grid = new char[rows][cols];
+            String[][] grid = new String[rows][cols];
 
             int exitCount = 0;
             
             for (int r = 0; r < rows; r++) {
                 for (int c = 0; c < cols; c++) {
-                    grid[r][c] = '.';
+                    grid[r][c] = ".";
                 }
             }
             
             if (allLines.size() > rows) {
-                String firstLine = allLines.get(0);
-                if (firstLine.contains("K")) {
+                String[] firstLine = allLines.get(0);
+                if (indexOfToken(firstLine, "K") >= 0) {
                     exitRow = -1;
-                    exitCol = firstLine.indexOf('K');
+                    exitCol = exitLineColumn(firstLine, tokenMode, cols, "Top");
                     exitFound = true;
                     exitCount++;
                     board.setExit(exitRow, exitCol);
@@ -106,10 +120,10 @@ public class FileParser {
                     allLines.remove(0);
                 }
                 else if (allLines.size() > rows) {
-                    String lastLine = allLines.get(rows);
-                    if (lastLine.contains("K")) {
+                    String[] lastLine = allLines.get(rows);
+                    if (indexOfToken(lastLine, "K") >= 0) {
                         exitRow = rows;
-                        exitCol = lastLine.indexOf('K');
+                        exitCol = exitLineColumn(lastLine, tokenMode, cols, "Bottom");
                         exitFound = true;
                         exitCount++;
                         board.setExit(exitRow, exitCol);
@@ -122,9 +136,9 @@ public class FileParser {
             }
             
             for (int r = 0; r < rows && r < allLines.size(); r++) {
-                line = allLines.get(r);
+                String[] cells = allLines.get(r);
                 
-                if (line.length() > 0 && line.charAt(0) == 'K') {
+                if (cells.length > 0 && cells[0].equals("K")) {
                     exitRow = r;
                     exitCol = -1;
                     exitFound = true;
@@ -135,10 +149,10 @@ public class FileParser {
                         throw new IllegalArgumentException("Left exit position is outside the board boundary.");
                     }
                     
-                    line = line.substring(1);
+                    cells = Arrays.copyOfRange(cells, 1, cells.length);
                 }
                 
-                if (line.length() > cols && line.charAt(cols) == 'K') {
+                if (cells.length > cols && cells[cols].equals("K")) {
                     exitRow = r;
                     exitCol = cols;
                     exitFound = true;
@@ -150,17 +164,17 @@ public class FileParser {
                     }
                 }
                 
-                int startIdx = (line.length() > 0 && line.charAt(0) == ' ') ? 1 : 0;
-                for (int c = 0; c < cols && startIdx + c < line.length(); c++) {
-                    grid[r][c] = line.charAt(startIdx + c);
+                int startIdx = (cells.length > 0 && cells[0].equals(" ")) ? 1 : 0;
+                for (int c = 0; c < cols && startIdx + c < cells.length; c++) {
+                    grid[r][c] = cells[startIdx + c];
                     
-                    if (grid[r][c] == 'K' && !exitFound) {
+                    if (grid[r][c].equals("K") && !exitFound) {
                         exitRow = r;
                         exitCol = c;
                         exitFound = true;
                         exitCount++;
                         board.setExit(exitRow, exitCol);
-                        grid[r][c] = '.';
+                        grid[r][c] = ".";
                     }
                 }
             }
@@ -173,23 +187,43 @@ public class FileParser {
                 throw new IllegalArgumentException("Multiple exits (" + exitCount + ") found in puzzle. Only one exit is allowed.");
             }
             
-            Set<Character> processedChars = new HashSet<>();
-            processedChars.add('.');
-            processedChars.add('K');
-            processedChars.add(' ');
+            // Id piece dipetain ke index int yang rapat, pencarian piece-nya jalan di atas grid int
+            Map<String, Integer> labelOf = new HashMap<>();
+            ArrayList<String> labelNames = new ArrayList<>();
+            int[][] labels = new int[rows][cols];
             
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    String cell = grid[r][c];
+                    if (cell.equals(".") || cell.equals("K") || cell.equals(" ")) {
+                        labels[r][c] = -1;
+                        continue;
+                    }
+                    
+                    Integer label = labelOf.get(cell);
+                    if (label == null) {
+                        label = labelNames.size();
+                        labelOf.put(cell, label);
+                        labelNames.add(cell);
+                    }
+                    labels[r][c] = label;
+                }
+            }
+            
+            boolean[] processed = new boolean[labelNames.size()];
             boolean foundPrimaryPiece = false;
             
             for (int r = 0; r < rows; r++) {
                 for (int c = 0; c < cols; c++) {
-                    char pieceChar = grid[r][c];
+                    int label = labels[r][c];
                     
-                    if (pieceChar == '.' || pieceChar == ' ' || processedChars.contains(pieceChar)) {
+                    if (label < 0 || processed[label]) {
                         continue;
                     }
                     
-                    processedChars.add(pieceChar);
-                    boolean isPrimary = (pieceChar == 'P');
+                    processed[label] = true;
+                    String pieceName = labelNames.get(label);
+                    boolean isPrimary = pieceName.equals("P");
                     
                     if (isPrimary) {
                         foundPrimaryPiece = true;
@@ -199,7 +233,7 @@ public class FileParser {
                     boolean isHorizontal = false;
                     
                     for (int i = c + 1; i < cols; i++) {
-                        if (grid[r][i] == pieceChar) {
+                        if (labels[r][i] == label) {
                             length++;
                             isHorizontal = true;
                         } else {
@@ -209,7 +243,7 @@ public class FileParser {
                     
                     if (length == 1) {
                         for (int i = r + 1; i < rows; i++) {
-                            if (grid[i][c] == pieceChar) {
+                            if (labels[i][c] == label) {
                                 length++;
                             } else {
                                 break;
@@ -218,10 +252,10 @@ public class FileParser {
                     }
                     
                     if (length < 2) {
-                        throw new IllegalArgumentException("Piece '" + pieceChar + "' has invalid length. Minimum length is 2.");
+                        throw new IllegalArgumentException("Piece '" + pieceName + "' has invalid length. Minimum length is 2.");
                     }
                     
-                    Piece piece = new Piece(pieceChar, r, c, length, !isHorizontal, isPrimary);
+                    Piece piece = new Piece(pieceName, r, c, length, !isHorizontal, isPrimary);
                     board.addPiece(piece);
                 }
             }
@@ -232,7 +266,7 @@ public class FileParser {
             
             int nonPrimaryPieceCount = 0;
             for (Piece piece : board.getPieces()) {
-                if (piece.getId() != 'P') {
+                if (!piece.isPrimary()) {
                     nonPrimaryPieceCount++;
                 }
             }
@@ -244,6 +278,8 @@ public class FileParser {
             
             validatePrimaryPieceExitAlignment(board, exitRow, exitCol, rows, cols);
             
+            board.prepareMoveTables();
+            
             return board;
             
         } finally {
@@ -253,11 +289,52 @@ public class FileParser {
         }
     }
     
+    /* Pecah satu baris jadi cell: per karakter (format biasa) atau per kata (format tokens) */
+    private String[] tokenize(String line, boolean tokenMode) {
+        if (tokenMode) {
+            return line.trim().split("\\s+");
+        }
+        
+        String[] cells = new String[line.length()];
+        for (int i = 0; i < line.length(); i++) {
+            cells[i] = String.valueOf(line.charAt(i));
+        }
+        return cells;
+    }
+    
+    /* Kolom K di baris exit atas/bawah. Di format tokens spasi di depan ilang waktu di-split,
+       jadi barisnya wajib satu token per kolom ('.' buat posisi kosong) biar kolom K-nya jelas */
+    private int exitLineColumn(String[] cells, boolean tokenMode, int cols, String side) {
+        int exitCol = indexOfToken(cells, "K");
+        if (!tokenMode) {
+            return exitCol;
+        }
+        
+        boolean valid = cells.length == cols;
+        for (int i = 0; valid && i < cells.length; i++) {
+            valid = i == exitCol || cells[i].equals(".");
+        }
+        if (!valid) {
+            throw new IllegalArgumentException(side + " exit line in token format must have one token per column: "
+                    + "'K' at the exit and '.' everywhere else.");
+        }
+        return exitCol;
+    }
+    
+    private int indexOfToken(String[] cells, String token) {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].equals(token)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     /* Validasi primary dan exit */
     private void validatePrimaryPieceExitAlignment(Board board, int exitRow, int exitCol, int rows, int cols) {
         Piece primaryPiece = null;
         for (Piece piece : board.getPieces()) {
-            if (piece.getId() == 'P') {
+            if (piece.isPrimary()) {
                 primaryPiece = piece;
                 break;
             }